@@ -0,0 +1,46 @@
+package com.sparta.msa_exam.order.config;
+
+import com.sparta.msa_exam.order.dto.OrderSearchDto;
+import com.sparta.msa_exam.order.enums.OrderStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CacheKeyBenchmark {
+
+    private KeyGenerator keyGenerator;
+    private OrderSearchDto unfiltered;
+    private OrderSearchDto filtered;
+    private Pageable pageable;
+
+    @Setup
+    public void setUp() {
+        keyGenerator = CacheConfig.getKeyGenerator();
+        unfiltered = new OrderSearchDto();
+        filtered = new OrderSearchDto(OrderStatus.CREATED, List.of(42L, 7L, 19L, 3L, 101L));
+        pageable = PageRequest.of(3, 20);
+    }
+
+    @Benchmark
+    public String unfilteredKey() {
+        return keyGenerator.generate(this, null, unfiltered, pageable, "MANAGER", "user").toString();
+    }
+
+    @Benchmark
+    public String filteredKey() {
+        return keyGenerator.generate(this, null, filtered, pageable, "MANAGER", "user").toString();
+    }
+}
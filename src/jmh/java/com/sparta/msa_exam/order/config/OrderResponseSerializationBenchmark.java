@@ -0,0 +1,66 @@
+package com.sparta.msa_exam.order.config;
+
+import com.sparta.msa_exam.order.cache.CompactRedisSerializer;
+import com.sparta.msa_exam.order.dto.OrderResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderResponseSerializationBenchmark {
+
+    @Param({"3", "50"})
+    private int itemCount;
+
+    private Jackson2JsonRedisSerializer<OrderResponseDto> serializer;
+    private CompactRedisSerializer<OrderResponseDto> compactSerializer;
+    private OrderResponseDto order;
+    private byte[] payload;
+    private byte[] compactPayload;
+
+    @Setup
+    public void setUp() {
+        serializer = new Jackson2JsonRedisSerializer<>(OrderResponseDto.class);
+        List<Long> orderItemIds = LongStream.rangeClosed(1, itemCount).boxed().collect(Collectors.toList());
+        LocalDateTime now = LocalDateTime.of(2024, 5, 1, 12, 30, 15);
+        order = new OrderResponseDto(123456L, "CREATED", now, "user-1", now.plusMinutes(5), "user-1", orderItemIds);
+        payload = serializer.serialize(order);
+
+        compactSerializer = new CompactRedisSerializer<>(OrderResponseDto.class, new CacheCodecProperties());
+        compactPayload = compactSerializer.serialize(order);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(order);
+    }
+
+    @Benchmark
+    public OrderResponseDto deserialize() {
+        return serializer.deserialize(payload);
+    }
+
+    @Benchmark
+    public byte[] compactSerialize() {
+        return compactSerializer.serialize(order);
+    }
+
+    @Benchmark
+    public OrderResponseDto compactDeserialize() {
+        return compactSerializer.deserialize(compactPayload);
+    }
+}
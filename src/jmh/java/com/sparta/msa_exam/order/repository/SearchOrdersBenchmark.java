@@ -0,0 +1,122 @@
+package com.sparta.msa_exam.order.repository;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sparta.msa_exam.order.dto.OrderCursor;
+import com.sparta.msa_exam.order.dto.OrderCursorPageDto;
+import com.sparta.msa_exam.order.dto.OrderResponseDto;
+import com.sparta.msa_exam.order.dto.OrderSearchDto;
+import com.sparta.msa_exam.order.enums.OrderStatus;
+import com.sparta.msa_exam.order.metrics.OrderMetrics;
+import com.sparta.msa_exam.order.support.BenchmarkDatabase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SearchOrdersBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int PRODUCT_COUNT = 10_000;
+
+    @Param({"100000", "1000000"})
+    private int rows;
+
+    private BenchmarkDatabase database;
+    private EntityManager entityManager;
+    private OrderRepositoryImpl repository;
+    private Pageable firstPage;
+    private Pageable deepPage;
+    private OrderCursor deepCursor;
+    private OrderSearchDto itemFilter;
+    private OrderSearchDto statusAndItemFilter;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        database = BenchmarkDatabase.create();
+        database.seedOrders(rows, 3, PRODUCT_COUNT);
+
+        entityManager = database.getEntityManagerFactory().createEntityManager();
+        repository = new OrderRepositoryImpl(new JPAQueryFactory(entityManager), new NoOpCacheManager(),
+                new OrderMetrics(new SimpleMeterRegistry()));
+
+        Sort newestFirst = Sort.by(Sort.Direction.DESC, "createdAt");
+        int deepPageNumber = rows / PAGE_SIZE * 9 / 10;
+        firstPage = PageRequest.of(0, PAGE_SIZE, newestFirst);
+        deepPage = PageRequest.of(deepPageNumber, PAGE_SIZE, newestFirst);
+        deepCursor = cursorAt((long) deepPageNumber * PAGE_SIZE - 1);
+
+        itemFilter = new OrderSearchDto(null, List.of(42L));
+        statusAndItemFilter = new OrderSearchDto(OrderStatus.PAID, List.of(42L, 4242L));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManager.close();
+        database.close();
+    }
+
+    @Benchmark
+    public Slice<OrderResponseDto> offsetFirstPage() {
+        return repository.searchOrderSlice(new OrderSearchDto(), firstPage, "MANAGER", "user");
+    }
+
+    @Benchmark
+    public Slice<OrderResponseDto> offsetDeepPage() {
+        return repository.searchOrderSlice(new OrderSearchDto(), deepPage, "MANAGER", "user");
+    }
+
+    @Benchmark
+    public OrderCursorPageDto keysetDeepPage() {
+        return repository.searchOrdersByCursor(new OrderSearchDto(), deepCursor, PAGE_SIZE, "MANAGER", "user");
+    }
+
+    @Benchmark
+    public Page<OrderResponseDto> offsetFirstPageWithCount() {
+        return repository.searchOrders(new OrderSearchDto(), firstPage, "MANAGER", "user");
+    }
+
+    @Benchmark
+    public Slice<OrderResponseDto> itemFilterPage() {
+        return repository.searchOrderSlice(itemFilter, firstPage, "MANAGER", "user");
+    }
+
+    @Benchmark
+    public Slice<OrderResponseDto> statusAndItemFilterPage() {
+        return repository.searchOrderSlice(statusAndItemFilter, firstPage, "MANAGER", "user");
+    }
+
+    private OrderCursor cursorAt(long offset) throws Exception {
+        try (Connection connection = database.getDataSource().getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                     "select created_at, id from orders order by created_at desc, id desc limit 1 offset ?")) {
+            statement.setLong(1, offset);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return new OrderCursor(resultSet.getTimestamp(1).toLocalDateTime(), resultSet.getLong(2));
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.sparta.msa_exam.order.service;
+
+import com.sparta.msa_exam.order.config.JacksonConfig;
+import com.sparta.msa_exam.order.entity.Order;
+import com.sparta.msa_exam.order.enums.OrderEventType;
+import com.sparta.msa_exam.order.enums.OrderStatus;
+import com.sparta.msa_exam.order.support.BenchmarkDatabase;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(BulkOrderInsertBenchmark.ORDERS)
+public class BulkOrderInsertBenchmark {
+
+    static final int ORDERS = 5_000;
+    private static final int ITEMS_PER_ORDER = 3;
+
+    @Param({"1", "500"})
+    private int jdbcBatchSize;
+
+    @Param({"1", "500"})
+    private int chunkSize;
+
+    private BenchmarkDatabase database;
+    private EntityManager entityManager;
+    private OrderEventOutbox orderEventOutbox;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        database = BenchmarkDatabase.create(jdbcBatchSize);
+        entityManager = database.getEntityManagerFactory().createEntityManager();
+        orderEventOutbox = new OrderEventOutbox(null, null, new JacksonConfig().objectMapper(), entityManager);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        entityManager.close();
+        database.close();
+    }
+
+    @Benchmark
+    public List<Order> saveAllAndRecord() {
+        List<Order> orders = new ArrayList<>(ORDERS);
+        for (long i = 0; i < ORDERS; i++) {
+            List<Long> itemIds = new ArrayList<>(ITEMS_PER_ORDER);
+            for (long j = 0; j < ITEMS_PER_ORDER; j++) {
+                itemIds.add(i * ITEMS_PER_ORDER + j + 1);
+            }
+            orders.add(Order.builder()
+                    .orderItemIds(itemIds)
+                    .createdBy("bulk")
+                    .status(OrderStatus.CREATED)
+                    .build());
+        }
+
+        entityManager.getTransaction().begin();
+        orderEventOutbox.saveAllAndRecord(orders, OrderEventType.ORDER_CREATED, chunkSize);
+        entityManager.getTransaction().commit();
+        return orders;
+    }
+}
@@ -0,0 +1,100 @@
+package com.sparta.msa_exam.order.service;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sparta.msa_exam.order.cache.OrderSearchCacheEvictor;
+import com.sparta.msa_exam.order.config.OrderArchiveProperties;
+import com.sparta.msa_exam.order.dto.OrderResponseDto;
+import com.sparta.msa_exam.order.dto.OrderSearchDto;
+import com.sparta.msa_exam.order.metrics.OrderMetrics;
+import com.sparta.msa_exam.order.repository.OrderRepositoryImpl;
+import com.sparta.msa_exam.order.support.BenchmarkDatabase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderArchiveBenchmark {
+
+    private static final int LIVE_ORDERS = 50_000;
+    private static final int PRODUCT_COUNT = 10_000;
+
+    @Param({"100000", "1000000"})
+    private int history;
+
+    @Param({"false", "true"})
+    private boolean archived;
+
+    private BenchmarkDatabase database;
+    private EntityManager entityManager;
+    private OrderRepositoryImpl repository;
+    private Pageable firstPage;
+    private OrderSearchDto itemFilter;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        database = BenchmarkDatabase.create();
+        database.seedOrders(history, 3, PRODUCT_COUNT);
+        if (archived) {
+            archiveAllButLive();
+        }
+
+        entityManager = database.getEntityManagerFactory().createEntityManager();
+        repository = new OrderRepositoryImpl(new JPAQueryFactory(entityManager), new NoOpCacheManager(),
+                new OrderMetrics(new SimpleMeterRegistry()));
+        firstPage = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+        itemFilter = new OrderSearchDto(null, List.of(42L));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManager.close();
+        database.close();
+    }
+
+    @Benchmark
+    public Page<OrderResponseDto> firstPageWithCount() {
+        return repository.searchOrders(new OrderSearchDto(), firstPage, "MANAGER", "user");
+    }
+
+    @Benchmark
+    public Slice<OrderResponseDto> itemFilterPage() {
+        return repository.searchOrderSlice(itemFilter, firstPage, "MANAGER", "user");
+    }
+
+    private void archiveAllButLive() {
+        OrderArchiveProperties properties = new OrderArchiveProperties();
+        properties.setBatchSize(5_000);
+        properties.setMaxBatchesPerRun(Integer.MAX_VALUE);
+        NoOpCacheManager cacheManager = new NoOpCacheManager();
+        OrderArchiveService archiveService = new OrderArchiveService(
+                new NamedParameterJdbcTemplate(database.getDataSource()),
+                new TransactionTemplate(new DataSourceTransactionManager(database.getDataSource())),
+                null, cacheManager, new OrderSearchCacheEvictor(cacheManager), properties, new SimpleMeterRegistry(), Runnable::run);
+
+        int aged = Math.max(history - LIVE_ORDERS, 0);
+        archiveService.archiveAll(BenchmarkDatabase.BASE_TIME.plusSeconds(aged + 1).plus(properties.getRetention()));
+    }
+}
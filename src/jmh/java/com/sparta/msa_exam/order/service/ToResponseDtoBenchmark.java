@@ -0,0 +1,44 @@
+package com.sparta.msa_exam.order.service;
+
+import com.sparta.msa_exam.order.dto.OrderResponseDto;
+import com.sparta.msa_exam.order.entity.Order;
+import com.sparta.msa_exam.order.enums.OrderStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ToResponseDtoBenchmark {
+
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.of(2024, 5, 1, 12, 30, 15);
+        order = Order.builder()
+                .id(123456L)
+                .status(OrderStatus.CREATED)
+                .orderItemIds(new ArrayList<>(List.of(1L, 2L, 3L)))
+                .createdAt(now)
+                .createdBy("user-1")
+                .updatedAt(now.plusMinutes(5))
+                .updatedBy("user-1")
+                .build();
+    }
+
+    @Benchmark
+    public OrderResponseDto toResponseDto() {
+        return OrderService.toResponseDto(order);
+    }
+}
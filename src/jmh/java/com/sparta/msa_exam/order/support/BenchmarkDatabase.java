@@ -0,0 +1,101 @@
+package com.sparta.msa_exam.order.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.h2.jdbcx.JdbcDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Properties;
+import java.util.UUID;
+
+public class BenchmarkDatabase implements AutoCloseable {
+
+    public static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final int SEED_BATCH_SIZE = 5_000;
+
+    private final DataSource dataSource;
+    private final EntityManagerFactory entityManagerFactory;
+
+    private BenchmarkDatabase(DataSource dataSource, EntityManagerFactory entityManagerFactory) {
+        this.dataSource = dataSource;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    public static BenchmarkDatabase create() {
+        return create(500);
+    }
+
+    public static BenchmarkDatabase create(int jdbcBatchSize) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+
+        Properties properties = new Properties();
+        properties.put("hibernate.hbm2ddl.auto", "create");
+        properties.put("hibernate.physical_naming_strategy", "org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy");
+        properties.put("hibernate.jdbc.batch_size", String.valueOf(jdbcBatchSize));
+        properties.put("hibernate.order_inserts", "true");
+
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan("com.sparta.msa_exam.order.entity");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaProperties(properties);
+        factoryBean.afterPropertiesSet();
+
+        return new BenchmarkDatabase(dataSource, factoryBean.getObject());
+    }
+
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    public EntityManagerFactory getEntityManagerFactory() {
+        return entityManagerFactory;
+    }
+
+    public void seedOrders(int rows, int itemsPerOrder, int productCount) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement orders = connection.prepareStatement(
+                     "insert into orders (id, status, created_at, created_by, deleted_at, version) values (?, ?, ?, ?, ?, 0)");
+             PreparedStatement items = connection.prepareStatement(
+                     "insert into order_items (order_id, order_item_id) values (?, ?)")) {
+            connection.setAutoCommit(false);
+            String[] statuses = {"CREATED", "PAID", "SHIPPED", "COMPLETED", "CANCELLED"};
+
+            for (int i = 1; i <= rows; i++) {
+                LocalDateTime createdAt = BASE_TIME.plusSeconds(i);
+                orders.setLong(1, i);
+                orders.setString(2, statuses[i % statuses.length]);
+                orders.setTimestamp(3, Timestamp.valueOf(createdAt));
+                orders.setString(4, "user" + (i % 100));
+                orders.setTimestamp(5, i % 10 == 0 ? Timestamp.valueOf(createdAt.plusDays(1)) : null);
+                orders.addBatch();
+
+                for (int j = 0; j < itemsPerOrder; j++) {
+                    items.setLong(1, i);
+                    items.setLong(2, (long) (i * 31 + j * 7) % productCount + 1);
+                    items.addBatch();
+                }
+
+                if (i % SEED_BATCH_SIZE == 0) {
+                    orders.executeBatch();
+                    items.executeBatch();
+                }
+            }
+            orders.executeBatch();
+            items.executeBatch();
+            connection.commit();
+        }
+    }
+
+    @Override
+    public void close() {
+        entityManagerFactory.close();
+    }
+}
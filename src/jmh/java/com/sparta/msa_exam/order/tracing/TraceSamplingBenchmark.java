@@ -0,0 +1,95 @@
+package com.sparta.msa_exam.order.tracing;
+
+import brave.Span;
+import brave.Tracer;
+import brave.Tracing;
+import brave.handler.MutableSpan;
+import brave.handler.SpanHandler;
+import brave.propagation.ThreadLocalCurrentTraceContext;
+import brave.propagation.TraceContext;
+import com.sparta.msa_exam.order.config.TraceSamplingProperties;
+import com.sparta.msa_exam.order.enums.TraceSamplingMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TraceSamplingBenchmark {
+
+    @Param({"always", "probability-0.1", "probability-0.01", "rate-limited-10", "never"})
+    private String setting;
+
+    private Tracing tracing;
+    private Tracer tracer;
+    private final LongAdder reportedBytes = new LongAdder();
+
+    @Setup
+    public void setUp() {
+        TraceSamplingProperties properties = new TraceSamplingProperties();
+        properties.getBoost().setEnabled(false);
+        if (setting.startsWith("rate-limited-")) {
+            properties.setMode(TraceSamplingMode.RATE_LIMITED);
+            properties.setTracesPerSecond(Integer.parseInt(setting.substring("rate-limited-".length())));
+        } else if (setting.startsWith("probability-")) {
+            properties.setProbability(Float.parseFloat(setting.substring("probability-".length())));
+        } else {
+            properties.setProbability("always".equals(setting) ? 1.0f : 0.0f);
+        }
+
+        tracing = Tracing.newBuilder()
+                .localServiceName("order-service")
+                .currentTraceContext(ThreadLocalCurrentTraceContext.create())
+                .sampler(new EndpointAwareSampler(properties))
+                .addSpanHandler(new SpanHandler() {
+                    @Override
+                    public boolean end(TraceContext context, MutableSpan span, Cause cause) {
+                        reportedBytes.add(span.toString().getBytes(StandardCharsets.UTF_8).length);
+                        return true;
+                    }
+                })
+                .build();
+        tracer = tracing.tracer();
+    }
+
+    @TearDown
+    public void tearDown() {
+        tracing.close();
+    }
+
+    @Benchmark
+    public void createOrderRequest(Blackhole blackhole) {
+        EndpointAwareSampler.setCurrentPath("/orders");
+        Span server = tracer.nextSpan().name("http post /orders").kind(Span.Kind.SERVER).start();
+        try (Tracer.SpanInScope ignored = tracer.withSpanInScope(server)) {
+            server.tag("http.method", "POST").tag("http.route", "/orders");
+            clientCall("get /products/batch", blackhole);
+            clientCall("post /products/reducequantity", blackhole);
+        } finally {
+            server.finish();
+            EndpointAwareSampler.clearCurrentPath();
+        }
+    }
+
+    private void clientCall(String name, Blackhole blackhole) {
+        Span client = tracer.nextSpan().name(name).kind(Span.Kind.CLIENT).start();
+        try (Tracer.SpanInScope ignored = tracer.withSpanInScope(client)) {
+            client.tag("http.method", "GET").remoteServiceName("product-service");
+            blackhole.consume(client.context().traceIdString());
+        } finally {
+            client.finish();
+        }
+    }
+}
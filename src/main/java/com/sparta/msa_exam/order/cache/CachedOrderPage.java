@@ -0,0 +1,56 @@
+package com.sparta.msa_exam.order.cache;
+
+import com.sparta.msa_exam.order.dto.OrderResponseDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CachedOrderPage {
+    private List<OrderResponseDto> content;
+    private int pageNumber;
+    private int pageSize;
+    private List<String> sort;
+    private long total;
+
+    public static CachedOrderPage from(Page<OrderResponseDto> page) {
+        Pageable pageable = page.getPageable();
+        List<String> sort = page.getSort().stream()
+                .map(order -> order.getProperty() + ":" + order.getDirection())
+                .collect(Collectors.toList());
+
+        return new CachedOrderPage(
+                new ArrayList<>(page.getContent()),
+                pageable.isPaged() ? pageable.getPageNumber() : 0,
+                pageable.isPaged() ? pageable.getPageSize() : 0,
+                sort,
+                page.getTotalElements()
+        );
+    }
+
+    public Page<OrderResponseDto> toPage() {
+        if (pageSize == 0) {
+            return new PageImpl<>(content, Pageable.unpaged(), total);
+        }
+
+        List<Sort.Order> orders = sort.stream()
+                .map(value -> {
+                    int separator = value.lastIndexOf(':');
+                    return new Sort.Order(Sort.Direction.fromString(value.substring(separator + 1)), value.substring(0, separator));
+                })
+                .collect(Collectors.toList());
+
+        return new PageImpl<>(content, PageRequest.of(pageNumber, pageSize, Sort.by(orders)), total);
+    }
+}
@@ -0,0 +1,133 @@
+package com.sparta.msa_exam.order.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.dataformat.smile.SmileParser;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sparta.msa_exam.order.config.CacheCodecProperties;
+import com.sparta.msa_exam.order.dto.OrderResponseDto;
+import com.sparta.msa_exam.order.enums.CacheCodecFormat;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+public class CompactRedisSerializer<T> implements RedisSerializer<T> {
+
+    static final byte VERSION_1 = 1;
+    static final byte FLAG_DEFLATE = 1;
+    private static final int HEADER_LENGTH = 2;
+
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper smileMapper;
+    private final JavaType type;
+    private final CacheCodecFormat format;
+    private final int compressionThreshold;
+
+    public CompactRedisSerializer(Class<T> type, CacheCodecProperties properties) {
+        this.jsonMapper = new ObjectMapper();
+        this.smileMapper = new ObjectMapper(SmileFactory.builder()
+                .disable(SmileGenerator.Feature.WRITE_HEADER)
+                .disable(SmileParser.Feature.REQUIRE_HEADER)
+                .build());
+        this.smileMapper.registerModule(new JavaTimeModule());
+        this.smileMapper.addMixIn(OrderResponseDto.class, OrderResponseDtoCompactMixin.class);
+        this.type = jsonMapper.constructType(type);
+        this.format = properties.getFormat();
+        this.compressionThreshold = properties.getCompressionThreshold();
+    }
+
+    @Override
+    public byte[] serialize(T value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+
+        try {
+            if (format == CacheCodecFormat.JSON) {
+                return jsonMapper.writeValueAsBytes(value);
+            }
+
+            byte[] body = smileMapper.writeValueAsBytes(value);
+            byte flags = 0;
+            if (body.length >= compressionThreshold) {
+                byte[] compressed = deflate(body);
+                if (compressed.length < body.length) {
+                    body = compressed;
+                    flags |= FLAG_DEFLATE;
+                }
+            }
+
+            byte[] payload = new byte[HEADER_LENGTH + body.length];
+            payload[0] = VERSION_1;
+            payload[1] = flags;
+            System.arraycopy(body, 0, payload, HEADER_LENGTH, body.length);
+            return payload;
+        } catch (IOException e) {
+            throw new SerializationException("Could not write cache value: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        try {
+            if (bytes[0] != VERSION_1) {
+                return jsonMapper.readValue(bytes, type);
+            }
+
+            byte[] body = Arrays.copyOfRange(bytes, HEADER_LENGTH, bytes.length);
+            if ((bytes[1] & FLAG_DEFLATE) != 0) {
+                body = inflate(body);
+            }
+            return smileMapper.readValue(body, type);
+        } catch (IOException | DataFormatException e) {
+            throw new SerializationException("Could not read cache value: " + e.getMessage(), e);
+        }
+    }
+
+    private byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length);
+            byte[] buffer = new byte[1024];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private byte[] inflate(byte[] input) throws DataFormatException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(input);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length * 4);
+            byte[] buffer = new byte[1024];
+            while (!inflater.finished()) {
+                int length = inflater.inflate(buffer);
+                if (length == 0 && inflater.needsInput()) {
+                    throw new DataFormatException("Truncated cache value");
+                }
+                out.write(buffer, 0, length);
+            }
+            return out.toByteArray();
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.sparta.msa_exam.order.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+public class DecoratingCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final Map<String, UnaryOperator<Cache>> decorators;
+    private final UnaryOperator<Cache> outerDecorator;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public DecoratingCacheManager(CacheManager delegate, Map<String, UnaryOperator<Cache>> decorators) {
+        this(delegate, decorators, UnaryOperator.identity());
+    }
+
+    public DecoratingCacheManager(CacheManager delegate, Map<String, UnaryOperator<Cache>> decorators, UnaryOperator<Cache> outerDecorator) {
+        this.delegate = delegate;
+        this.decorators = decorators;
+        this.outerDecorator = outerDecorator;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = delegate.getCache(name);
+        if (cache == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, key -> {
+            UnaryOperator<Cache> decorator = decorators.getOrDefault(name, UnaryOperator.identity());
+            return outerDecorator.apply(decorator.apply(cache));
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+}
@@ -0,0 +1,25 @@
+package com.sparta.msa_exam.order.cache;
+
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class JitteredTtlFunction implements RedisCacheWriter.TtlFunction {
+
+    private final long baseMillis;
+    private final long jitterMillis;
+
+    public JitteredTtlFunction(Duration ttl, double jitterRatio) {
+        this.baseMillis = ttl.toMillis();
+        this.jitterMillis = (long) (ttl.toMillis() * jitterRatio);
+    }
+
+    @Override
+    public Duration getTimeToLive(Object key, Object value) {
+        if (jitterMillis <= 0) {
+            return Duration.ofMillis(baseMillis);
+        }
+        return Duration.ofMillis(baseMillis + ThreadLocalRandom.current().nextLong(jitterMillis + 1));
+    }
+}
@@ -0,0 +1,92 @@
+package com.sparta.msa_exam.order.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class MeteredCache implements Cache {
+
+    private final Cache delegate;
+    private final MeterRegistry meterRegistry;
+
+    public MeteredCache(Cache delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public Cache getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        ValueWrapper wrapper = delegate.get(key);
+        sample.stop(timer(wrapper != null));
+        return wrapper;
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        T value = delegate.get(key, type);
+        sample.stop(timer(value != null));
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        AtomicBoolean loaded = new AtomicBoolean();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return delegate.get(key, () -> {
+                loaded.set(true);
+                return valueLoader.call();
+            });
+        } finally {
+            sample.stop(timer(!loaded.get()));
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    private Timer timer(boolean hit) {
+        return Timer.builder("order.cache")
+                .description("Cache lookups by cache name and result")
+                .tag("cache", delegate.getName())
+                .tag("result", hit ? "hit" : "miss")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,71 @@
+package com.sparta.msa_exam.order.cache;
+
+import com.sparta.msa_exam.order.dto.OrderResponseDto;
+import org.springframework.data.redis.cache.CacheKeyPrefix;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class OrderCacheBatch {
+
+    private static final String KEY_PREFIX = CacheKeyPrefix.simple().compute("orderCache");
+
+    private final RedisTemplate<String, OrderResponseDto> orderTemplate;
+    private final JitteredTtlFunction ttlFunction;
+
+    public OrderCacheBatch(RedisTemplate<String, OrderResponseDto> orderTemplate, JitteredTtlFunction ttlFunction) {
+        this.orderTemplate = orderTemplate;
+        this.ttlFunction = ttlFunction;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void putAllIfAbsent(Collection<OrderResponseDto> orders) {
+        if (orders.isEmpty()) {
+            return;
+        }
+
+        RedisSerializer<String> keySerializer = RedisSerializer.string();
+        RedisSerializer<OrderResponseDto> valueSerializer = (RedisSerializer<OrderResponseDto>) orderTemplate.getValueSerializer();
+        orderTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (OrderResponseDto order : orders) {
+                connection.stringCommands().set(
+                        keySerializer.serialize(key(order.getOrderId())),
+                        valueSerializer.serialize(order),
+                        Expiration.from(ttlFunction.getTimeToLive(order.getOrderId(), order)),
+                        RedisStringCommands.SetOption.ifAbsent());
+            }
+            return null;
+        });
+    }
+
+    public Map<Long, OrderResponseDto> getAll(Collection<Long> orderIds) {
+        Map<Long, OrderResponseDto> found = new LinkedHashMap<>();
+        if (orderIds.isEmpty()) {
+            return found;
+        }
+
+        List<Long> ids = List.copyOf(orderIds);
+        List<OrderResponseDto> values = orderTemplate.opsForValue().multiGet(ids.stream().map(this::key).collect(Collectors.toList()));
+        if (values == null) {
+            return found;
+        }
+        for (int i = 0; i < ids.size(); i++) {
+            if (values.get(i) != null) {
+                found.put(ids.get(i), values.get(i));
+            }
+        }
+        return found;
+    }
+
+    private String key(Long orderId) {
+        return KEY_PREFIX + orderId;
+    }
+}
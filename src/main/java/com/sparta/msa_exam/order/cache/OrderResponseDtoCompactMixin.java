@@ -0,0 +1,16 @@
+package com.sparta.msa_exam.order.cache;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.time.LocalDateTime;
+
+@JsonFormat(shape = JsonFormat.Shape.ARRAY)
+@JsonPropertyOrder({"orderId", "status", "createdAt", "createdBy", "updatedAt", "updatedBy", "orderItemIds"})
+abstract class OrderResponseDtoCompactMixin {
+    @JsonFormat(shape = JsonFormat.Shape.ARRAY)
+    private LocalDateTime createdAt;
+
+    @JsonFormat(shape = JsonFormat.Shape.ARRAY)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,121 @@
+package com.sparta.msa_exam.order.cache;
+
+import com.sparta.msa_exam.order.dto.OrderResponseDto;
+import com.sparta.msa_exam.order.enums.OrderStatus;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.domain.Page;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+public class OrderSearchCache implements Cache {
+
+    private final Cache delegate;
+    private final OrderSearchCacheIndex index;
+
+    public OrderSearchCache(Cache delegate, OrderSearchCacheIndex index) {
+        this.delegate = delegate;
+        this.index = index;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper wrapper = delegate.get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        return new SimpleValueWrapper(fromStoreValue(wrapper.get()));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object value = delegate.get(key, () -> {
+            Object loaded = valueLoader.call();
+            register(key);
+            return toStoreValue(loaded);
+        });
+        return (T) fromStoreValue(value);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        register(key);
+        delegate.put(key, toStoreValue(value));
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        index.clear();
+    }
+
+    public void evictAffected(Collection<OrderStatus> statuses, Collection<Long> orderItemIds) {
+        Set<String> affected = index.findAffected(statuses, orderItemIds);
+        for (String key : affected) {
+            delegate.evict(key);
+        }
+        index.remove(affected, statuses, orderItemIds);
+    }
+
+    public long trimIndex() {
+        return index.trim();
+    }
+
+    public void markWritten(Collection<OrderStatus> statuses, Collection<Long> orderItemIds) {
+        index.markWritten(statuses, orderItemIds);
+    }
+
+    public boolean isRecentlyWritten(OrderSearchCacheKey key) {
+        return index.isRecentlyWritten(key);
+    }
+
+    private void register(Object key) {
+        if (key instanceof OrderSearchCacheKey) {
+            index.register((OrderSearchCacheKey) key);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object toStoreValue(Object value) {
+        if (value instanceof Page) {
+            return CachedOrderPage.from((Page<OrderResponseDto>) value);
+        }
+        return value;
+    }
+
+    private Object fromStoreValue(Object value) {
+        if (value instanceof CachedOrderPage) {
+            return ((CachedOrderPage) value).toPage();
+        }
+        return value;
+    }
+}
@@ -0,0 +1,95 @@
+package com.sparta.msa_exam.order.cache;
+
+import com.sparta.msa_exam.order.dto.OrderSearchDto;
+import com.sparta.msa_exam.order.enums.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderSearchCacheEvictor {
+
+    private final CacheManager cacheManager;
+
+    public void evict(Collection<OrderStatus> statuses, Collection<Long> orderItemIds) {
+        Cache cache = searchCache();
+        if (cache instanceof OrderSearchCache) {
+            try {
+                ((OrderSearchCache) cache).markWritten(statuses, orderItemIds);
+            } catch (DataAccessException e) {
+                log.warn("Failed to mark recent order writes: {}", e.getMessage());
+            }
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictNow(cache, statuses, orderItemIds);
+            return;
+        }
+
+        List<OrderStatus> committedStatuses = List.copyOf(statuses);
+        List<Long> committedItemIds = List.copyOf(orderItemIds);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictNow(cache, committedStatuses, committedItemIds);
+            }
+        });
+    }
+
+    @Scheduled(initialDelayString = "${order.search.index-trim-interval:PT1M}",
+            fixedDelayString = "${order.search.index-trim-interval:PT1M}")
+    public void trimIndex() {
+        Cache cache = searchCache();
+        if (!(cache instanceof OrderSearchCache)) {
+            return;
+        }
+        try {
+            long removed = ((OrderSearchCache) cache).trimIndex();
+            if (removed > 0) {
+                log.debug("Removed {} expired pages from the order search cache index", removed);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to trim the order search cache index: {}", e.getMessage());
+        }
+    }
+
+    public boolean isRecentlyWritten(OrderSearchDto searchDto, Pageable pageable) {
+        Cache cache = searchCache();
+        if (!(cache instanceof OrderSearchCache)) {
+            return false;
+        }
+        try {
+            return ((OrderSearchCache) cache).isRecentlyWritten(OrderSearchCacheKey.of(searchDto, pageable));
+        } catch (DataAccessException e) {
+            log.warn("Failed to read recent order writes, reading search from primary", e);
+            return true;
+        }
+    }
+
+    private void evictNow(Cache cache, Collection<OrderStatus> statuses, Collection<Long> orderItemIds) {
+        if (cache instanceof OrderSearchCache) {
+            ((OrderSearchCache) cache).evictAffected(statuses, orderItemIds);
+        } else if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    private Cache searchCache() {
+        Cache cache = cacheManager.getCache("orderSearchCache");
+        if (cache instanceof MeteredCache) {
+            cache = ((MeteredCache) cache).getDelegate();
+        }
+        return cache;
+    }
+}
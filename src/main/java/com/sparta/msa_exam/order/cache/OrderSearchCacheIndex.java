@@ -0,0 +1,200 @@
+package com.sparta.msa_exam.order.cache;
+
+import com.sparta.msa_exam.order.enums.OrderStatus;
+import org.springframework.data.redis.cache.CacheKeyPrefix;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class OrderSearchCacheIndex {
+
+    private static final int CLEAR_BATCH_SIZE = 1000;
+
+    private final StringRedisTemplate redisTemplate;
+    private final String prefix;
+    private final String recentPrefix;
+    private final String pagePrefix;
+    private final Duration tagTtl;
+    private final Duration recentWriteWindow;
+
+    public OrderSearchCacheIndex(StringRedisTemplate redisTemplate, String cacheName, Duration tagTtl, Duration recentWriteWindow) {
+        this.redisTemplate = redisTemplate;
+        this.prefix = cacheName + ":tag:";
+        this.recentPrefix = cacheName + ":recent:";
+        this.pagePrefix = CacheKeyPrefix.simple().compute(cacheName);
+        this.tagTtl = tagTtl;
+        this.recentWriteWindow = recentWriteWindow;
+    }
+
+    public void register(OrderSearchCacheKey key) {
+        String member = key.toString();
+        Set<String> tags = new HashSet<>(key.statusTags());
+        tags.addAll(key.itemTags());
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (String tag : tags) {
+                stringConnection.sAdd(prefix + tag, member);
+                stringConnection.expire(prefix + tag, tagTtl.toSeconds());
+            }
+            return null;
+        });
+    }
+
+    public Set<String> findAffected(Collection<OrderStatus> statuses, Collection<Long> orderItemIds) {
+        Set<String> byStatus = union(OrderSearchCacheKey.affectedStatusTags(statuses));
+        if (byStatus.isEmpty()) {
+            return byStatus;
+        }
+
+        Set<String> byItem = union(OrderSearchCacheKey.affectedItemTags(orderItemIds));
+        byStatus.retainAll(byItem);
+        return byStatus;
+    }
+
+    public void remove(Collection<String> members, Collection<OrderStatus> statuses, Collection<Long> orderItemIds) {
+        if (members.isEmpty()) {
+            return;
+        }
+
+        Set<String> tags = new HashSet<>(OrderSearchCacheKey.affectedStatusTags(statuses));
+        tags.addAll(OrderSearchCacheKey.affectedItemTags(orderItemIds));
+        String[] values = members.toArray(new String[0]);
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (String tag : tags) {
+                stringConnection.sRem(prefix + tag, values);
+            }
+            return null;
+        });
+    }
+
+    public void markWritten(Collection<OrderStatus> statuses, Collection<Long> orderItemIds) {
+        if (recentWriteWindow.isZero() || recentWriteWindow.isNegative()) {
+            return;
+        }
+
+        Set<String> tags = new HashSet<>(OrderSearchCacheKey.affectedStatusTags(statuses));
+        tags.addAll(OrderSearchCacheKey.affectedItemTags(orderItemIds));
+        Expiration expiration = Expiration.milliseconds(recentWriteWindow.toMillis());
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (String tag : tags) {
+                stringConnection.set(recentPrefix + tag, "1", expiration, RedisStringCommands.SetOption.upsert());
+            }
+            return null;
+        });
+    }
+
+    public boolean isRecentlyWritten(OrderSearchCacheKey key) {
+        if (recentWriteWindow.isZero() || recentWriteWindow.isNegative()) {
+            return false;
+        }
+
+        List<String> statusTags = new ArrayList<>(key.statusTags());
+        List<String> itemTags = new ArrayList<>(key.itemTags());
+        List<String> keys = new ArrayList<>(statusTags.size() + itemTags.size());
+        statusTags.forEach(tag -> keys.add(recentPrefix + tag));
+        itemTags.forEach(tag -> keys.add(recentPrefix + tag));
+
+        List<String> markers = redisTemplate.opsForValue().multiGet(keys);
+        if (markers == null) {
+            return true;
+        }
+        return anyPresent(markers.subList(0, statusTags.size()))
+                && anyPresent(markers.subList(statusTags.size(), markers.size()));
+    }
+
+    public void clear() {
+        ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").count(CLEAR_BATCH_SIZE).build();
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            List<byte[]> batch = new ArrayList<>(CLEAR_BATCH_SIZE);
+            try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                while (cursor.hasNext()) {
+                    batch.add(cursor.next());
+                    if (batch.size() == CLEAR_BATCH_SIZE) {
+                        connection.keyCommands().del(batch.toArray(new byte[0][]));
+                        batch.clear();
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                connection.keyCommands().del(batch.toArray(new byte[0][]));
+            }
+            return null;
+        });
+    }
+
+    public long trim() {
+        List<String> tags = new ArrayList<>();
+        ScanOptions tagOptions = ScanOptions.scanOptions().match(prefix + "*").count(CLEAR_BATCH_SIZE).build();
+        try (Cursor<String> cursor = redisTemplate.scan(tagOptions)) {
+            cursor.forEachRemaining(tags::add);
+        }
+
+        long removed = 0;
+        ScanOptions memberOptions = ScanOptions.scanOptions().count(CLEAR_BATCH_SIZE).build();
+        for (String tag : tags) {
+            List<String> members = new ArrayList<>(CLEAR_BATCH_SIZE);
+            try (Cursor<String> cursor = redisTemplate.opsForSet().scan(tag, memberOptions)) {
+                while (cursor.hasNext()) {
+                    members.add(cursor.next());
+                    if (members.size() == CLEAR_BATCH_SIZE) {
+                        removed += removeExpiredPages(tag, members);
+                        members.clear();
+                    }
+                }
+            }
+            if (!members.isEmpty()) {
+                removed += removeExpiredPages(tag, members);
+            }
+        }
+        return removed;
+    }
+
+    private long removeExpiredPages(String tag, List<String> members) {
+        List<Object> exists = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (String member : members) {
+                stringConnection.exists(pagePrefix + member);
+            }
+            return null;
+        });
+
+        List<String> expired = new ArrayList<>();
+        for (int i = 0; i < members.size(); i++) {
+            if (!Boolean.TRUE.equals(exists.get(i))) {
+                expired.add(members.get(i));
+            }
+        }
+        if (!expired.isEmpty()) {
+            redisTemplate.opsForSet().remove(tag, expired.toArray());
+        }
+        return expired.size();
+    }
+
+    private boolean anyPresent(List<String> markers) {
+        return markers.stream().anyMatch(marker -> marker != null);
+    }
+
+    private Set<String> union(Set<String> tags) {
+        Set<String> members = redisTemplate.opsForSet().union(tags.stream()
+                .map(tag -> prefix + tag)
+                .collect(Collectors.toList()));
+        return members != null ? new HashSet<>(members) : new HashSet<>();
+    }
+}
@@ -0,0 +1,108 @@
+package com.sparta.msa_exam.order.cache;
+
+import com.sparta.msa_exam.order.dto.OrderSearchDto;
+import com.sparta.msa_exam.order.enums.OrderStatus;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Getter
+@EqualsAndHashCode
+public class OrderSearchCacheKey {
+
+    static final String ANY = "*";
+
+    private final OrderStatus status;
+    private final List<Long> orderItemIds;
+    private final int pageNumber;
+    private final int pageSize;
+    private final String sort;
+
+    private OrderSearchCacheKey(OrderStatus status, List<Long> orderItemIds, int pageNumber, int pageSize, String sort) {
+        this.status = status;
+        this.orderItemIds = orderItemIds;
+        this.pageNumber = pageNumber;
+        this.pageSize = pageSize;
+        this.sort = sort;
+    }
+
+    public static OrderSearchCacheKey of(OrderSearchDto searchDto, Pageable pageable) {
+        List<Long> orderItemIds = searchDto.getOrderItemIds() == null ? List.of() : searchDto.getOrderItemIds().stream()
+                .distinct()
+                .sorted()
+                .collect(Collectors.toList());
+        String sort = pageable.getSort().stream()
+                .map(order -> order.getProperty() + ":" + order.getDirection())
+                .collect(Collectors.joining(","));
+        return new OrderSearchCacheKey(searchDto.getStatus(), orderItemIds,
+                pageable.isPaged() ? pageable.getPageNumber() : 0,
+                pageable.isPaged() ? pageable.getPageSize() : Integer.MAX_VALUE,
+                sort);
+    }
+
+    public Set<String> statusTags() {
+        return Set.of(statusTag(status == null ? ANY : status.name()));
+    }
+
+    public Set<String> itemTags() {
+        if (orderItemIds.isEmpty()) {
+            return Set.of(itemTag(ANY));
+        }
+        return orderItemIds.stream()
+                .map(id -> itemTag(String.valueOf(id)))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    public static Set<String> affectedStatusTags(Collection<OrderStatus> statuses) {
+        Set<String> tags = new LinkedHashSet<>();
+        tags.add(statusTag(ANY));
+        statuses.forEach(status -> tags.add(statusTag(status.name())));
+        return tags;
+    }
+
+    public static Set<String> affectedItemTags(Collection<Long> orderItemIds) {
+        Set<String> tags = new LinkedHashSet<>();
+        tags.add(itemTag(ANY));
+        orderItemIds.forEach(id -> tags.add(itemTag(String.valueOf(id))));
+        return tags;
+    }
+
+    static String statusTag(String value) {
+        return "status:" + value;
+    }
+
+    static String itemTag(String value) {
+        return "item:" + value;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+
+        if (status != null) {
+            sb.append("status_").append(status);
+        }
+
+        if (!orderItemIds.isEmpty()) {
+            String orderItemIdsStr = orderItemIds.stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(","));
+            sb.append("orderItemIds_").append(orderItemIdsStr).append("_");
+        }
+
+        sb.append("pageNum").append(pageNumber);
+        sb.append("pageSize").append(pageSize);
+
+        if (!sort.isEmpty()) {
+            sb.append("_sort_").append(sort);
+        }
+
+        return sb.toString();
+    }
+}
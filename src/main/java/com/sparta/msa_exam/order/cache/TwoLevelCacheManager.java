@@ -0,0 +1,46 @@
+package com.sparta.msa_exam.order.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.msa_exam.order.config.NearCacheProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class TwoLevelCacheManager implements CacheManager {
+
+    private final CacheManager remoteCacheManager;
+    private final NearCacheProperties properties;
+    private final NearCacheInvalidation invalidation;
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager remoteCacheManager, NearCacheProperties properties, NearCacheInvalidation invalidation) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.properties = properties;
+        this.invalidation = invalidation;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null || !properties.getCacheNames().contains(name)) {
+            return remote;
+        }
+
+        return caches.computeIfAbsent(name, key -> {
+            TwoLevelCache cache = new TwoLevelCache(key, Caffeine.newBuilder()
+                    .maximumSize(properties.getMaximumSize())
+                    .expireAfterWrite(properties.getTtl())
+                    .build(), remote, invalidation);
+            invalidation.register(cache);
+            return cache;
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+}
@@ -1,12 +1,18 @@
 package com.sparta.msa_exam.order.client;
 
+import com.sparta.msa_exam.order.client.dto.ProductQuantityRequestDto;
 import com.sparta.msa_exam.order.client.dto.ProductResponseDto;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 
-@FeignClient(name = "product-service")
+import java.util.Collection;
+import java.util.List;
+
+@FeignClient(name = "product-service", qualifiers = "feignProductClient", primary = false)
 public interface ProductClient {
 
     @GetMapping("/products/{id}")
@@ -14,4 +20,13 @@ public interface ProductClient {
 
     @GetMapping("/products/{id}/reduceQuantity")
     void reduceProductQuantity(@PathVariable("id") Long id, @RequestParam("quantity") int quantity);
-}
\ No newline at end of file
+
+    @GetMapping("/products/{id}/increaseQuantity")
+    void increaseProductQuantity(@PathVariable("id") Long id, @RequestParam("quantity") int quantity);
+
+    @GetMapping("/products/batch")
+    List<ProductResponseDto> getProducts(@RequestParam("ids") Collection<Long> ids);
+
+    @PostMapping("/products/reduceQuantity")
+    void reduceProductQuantities(@RequestBody List<ProductQuantityRequestDto> requests);
+}
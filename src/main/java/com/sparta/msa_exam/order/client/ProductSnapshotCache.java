@@ -0,0 +1,68 @@
+package com.sparta.msa_exam.order.client;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.sparta.msa_exam.order.client.dto.ProductResponseDto;
+import com.sparta.msa_exam.order.config.ProductSnapshotProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+public class ProductSnapshotCache {
+
+    private final ProductClient productClient;
+    private final ProductSnapshotProperties properties;
+    private final LoadingCache<Long, ProductResponseDto> cache;
+
+    public ProductSnapshotCache(ProductClient productClient, ProductSnapshotProperties properties,
+                                MeterRegistry meterRegistry, Executor productCallExecutor) {
+        this.productClient = productClient;
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .refreshAfterWrite(properties.getRefreshAfter())
+                .executor(productCallExecutor)
+                .recordStats()
+                .build(new CacheLoader<>() {
+                    @Override
+                    public ProductResponseDto load(Long productId) {
+                        return productClient.getProduct(productId);
+                    }
+
+                    @Override
+                    public Map<Long, ProductResponseDto> loadAll(Set<? extends Long> productIds) {
+                        return toMap(productClient.getProducts(Set.copyOf(productIds)));
+                    }
+                });
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "productSnapshotCache");
+    }
+
+    public ProductResponseDto getProduct(Long productId) {
+        if (!properties.isEnabled()) {
+            return productClient.getProduct(productId);
+        }
+        return cache.get(productId);
+    }
+
+    public Map<Long, ProductResponseDto> getProducts(Collection<Long> productIds) {
+        if (!properties.isEnabled()) {
+            return toMap(productClient.getProducts(productIds));
+        }
+        return cache.getAll(productIds);
+    }
+
+    private static Map<Long, ProductResponseDto> toMap(Collection<ProductResponseDto> products) {
+        return products.stream()
+                .collect(Collectors.toMap(ProductResponseDto::getId, Function.identity(), (first, second) -> first));
+    }
+}
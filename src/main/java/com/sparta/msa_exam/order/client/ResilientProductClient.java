@@ -0,0 +1,115 @@
+package com.sparta.msa_exam.order.client;
+
+import com.sparta.msa_exam.order.client.dto.ProductQuantityRequestDto;
+import com.sparta.msa_exam.order.client.dto.ProductResponseDto;
+import com.sparta.msa_exam.order.exception.ProductServiceUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.decorators.Decorators;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+@Slf4j
+@Primary
+@Component
+public class ResilientProductClient implements ProductClient {
+
+    static final String INSTANCE = "productService";
+
+    private final ProductClient delegate;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final RateLimiter rateLimiter;
+    private final TimeLimiter timeLimiter;
+    private final Executor productClientExecutor;
+
+    public ResilientProductClient(@Qualifier("feignProductClient") ProductClient delegate,
+                                  CircuitBreakerRegistry circuitBreakerRegistry,
+                                  BulkheadRegistry bulkheadRegistry,
+                                  RateLimiterRegistry rateLimiterRegistry,
+                                  TimeLimiterRegistry timeLimiterRegistry,
+                                  Executor productClientExecutor) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(INSTANCE);
+        this.bulkhead = bulkheadRegistry.bulkhead(INSTANCE);
+        this.rateLimiter = rateLimiterRegistry.rateLimiter(INSTANCE);
+        this.timeLimiter = timeLimiterRegistry.timeLimiter(INSTANCE);
+        this.productClientExecutor = productClientExecutor;
+    }
+
+    @Override
+    public ProductResponseDto getProduct(Long id) {
+        return call(() -> delegate.getProduct(id));
+    }
+
+    @Override
+    public void reduceProductQuantity(Long id, int quantity) {
+        call(() -> {
+            delegate.reduceProductQuantity(id, quantity);
+            return null;
+        });
+    }
+
+    @Override
+    public void increaseProductQuantity(Long id, int quantity) {
+        call(() -> {
+            delegate.increaseProductQuantity(id, quantity);
+            return null;
+        });
+    }
+
+    @Override
+    public List<ProductResponseDto> getProducts(Collection<Long> ids) {
+        return call(() -> delegate.getProducts(ids));
+    }
+
+    @Override
+    public void reduceProductQuantities(List<ProductQuantityRequestDto> requests) {
+        call(() -> {
+            delegate.reduceProductQuantities(requests);
+            return null;
+        });
+    }
+
+    private <T> T call(Supplier<T> supplier) {
+        Callable<T> timeLimited = () -> timeLimiter.executeFutureSupplier(
+                () -> CompletableFuture.supplyAsync(supplier, productClientExecutor));
+
+        try {
+            return Decorators.ofCallable(timeLimited)
+                    .withCircuitBreaker(circuitBreaker)
+                    .withRateLimiter(rateLimiter)
+                    .withBulkhead(bulkhead)
+                    .call();
+        } catch (CallNotPermittedException | BulkheadFullException | RequestNotPermitted
+                 | RejectedExecutionException | TimeoutException e) {
+            log.warn("Product service call rejected: {}", e.toString());
+            throw new ProductServiceUnavailableException("잠시 후에 주문 추가를 요청 해주세요.");
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Product service call failed: {}", e.getMessage());
+            throw new ProductServiceUnavailableException("잠시 후에 주문 추가를 요청 해주세요.");
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.sparta.msa_exam.order.client.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductQuantityRequestDto {
+    private Long productId;
+    private int quantity;
+}
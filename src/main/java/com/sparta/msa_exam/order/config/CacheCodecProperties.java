@@ -0,0 +1,14 @@
+package com.sparta.msa_exam.order.config;
+
+import com.sparta.msa_exam.order.enums.CacheCodecFormat;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "order.cache.codec")
+public class CacheCodecProperties {
+    private CacheCodecFormat format = CacheCodecFormat.SMILE;
+    private int compressionThreshold = 512;
+}
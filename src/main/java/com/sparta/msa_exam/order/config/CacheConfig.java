@@ -1,40 +1,101 @@
 package com.sparta.msa_exam.order.config;
 
+import com.sparta.msa_exam.order.cache.CachedOrderPage;
+import com.sparta.msa_exam.order.cache.CompactRedisSerializer;
+import com.sparta.msa_exam.order.cache.DecoratingCacheManager;
+import com.sparta.msa_exam.order.cache.JitteredTtlFunction;
+import com.sparta.msa_exam.order.cache.MeteredCache;
+import com.sparta.msa_exam.order.cache.NearCacheInvalidation;
+import com.sparta.msa_exam.order.cache.OrderSearchCache;
+import com.sparta.msa_exam.order.cache.OrderSearchCacheIndex;
+import com.sparta.msa_exam.order.cache.OrderSearchCacheKey;
+import com.sparta.msa_exam.order.cache.SingleFlightCache;
+import com.sparta.msa_exam.order.cache.TwoLevelCacheManager;
 import com.sparta.msa_exam.order.dto.OrderResponseDto;
 import com.sparta.msa_exam.order.dto.OrderSearchDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachingConfigurer;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.CacheErrorHandler;
 import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.cache.interceptor.LoggingCacheErrorHandler;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.cache.BatchStrategies;
 import org.springframework.data.redis.cache.CacheKeyPrefix;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 
-import java.time.Duration;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Configuration
 @EnableCaching
-public class CacheConfig {
+public class CacheConfig implements CachingConfigurer {
+    @Override
+    public CacheErrorHandler errorHandler() {
+        return new LoggingCacheErrorHandler();
+    }
+
+    @Bean
+    public NearCacheInvalidation nearCacheInvalidation(StringRedisTemplate stringRedisTemplate, NearCacheProperties nearCacheProperties) {
+        return new NearCacheInvalidation(stringRedisTemplate, nearCacheProperties.getChannel());
+    }
+
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
-        Jackson2JsonRedisSerializer<OrderResponseDto> jackson2JsonRedisSerializer = new Jackson2JsonRedisSerializer<>(OrderResponseDto.class);
+    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory, StringRedisTemplate stringRedisTemplate,
+                                     NearCacheProperties nearCacheProperties, NearCacheInvalidation nearCacheInvalidation,
+                                     OrderSearchProperties orderSearchProperties, CacheCodecProperties cacheCodecProperties,
+                                     OrderCacheProperties orderCacheProperties, MeterRegistry meterRegistry) {
+        CompactRedisSerializer<OrderResponseDto> orderSerializer = new CompactRedisSerializer<>(OrderResponseDto.class, cacheCodecProperties);
 
         RedisCacheConfiguration configuration = RedisCacheConfiguration
                 .defaultCacheConfig()
                 .disableCachingNullValues()
-                .entryTtl(Duration.ofSeconds(60))
+                .entryTtl(new JitteredTtlFunction(orderCacheProperties.getTtl(), orderCacheProperties.getTtlJitter()))
                 .computePrefixWith(CacheKeyPrefix.simple())
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(jackson2JsonRedisSerializer));
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(orderSerializer));
 
-        return RedisCacheManager
-                .builder(redisConnectionFactory)
+        RedisCacheConfiguration searchConfiguration = RedisCacheConfiguration
+                .defaultCacheConfig()
+                .disableCachingNullValues()
+                .entryTtl(new JitteredTtlFunction(orderSearchProperties.getCacheTtl(), orderCacheProperties.getTtlJitter()))
+                .computePrefixWith(CacheKeyPrefix.simple())
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                        new CompactRedisSerializer<>(CachedOrderPage.class, cacheCodecProperties)));
+
+        RedisCacheConfiguration countConfiguration = RedisCacheConfiguration
+                .defaultCacheConfig()
+                .disableCachingNullValues()
+                .entryTtl(orderSearchProperties.getCountCacheTtl())
+                .computePrefixWith(CacheKeyPrefix.simple())
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericToStringSerializer<>(Long.class)));
+
+        RedisCacheManager redisCacheManager = RedisCacheManager
+                .builder(RedisCacheWriter.nonLockingRedisCacheWriter(redisConnectionFactory, BatchStrategies.scan(1000)))
                 .cacheDefaults(configuration)
+                .withCacheConfiguration("orderSearchCache", searchConfiguration)
+                .withCacheConfiguration("orderCountCache", countConfiguration)
                 .build();
+        redisCacheManager.afterPropertiesSet();
+
+        CacheManager cacheManager = nearCacheProperties.isEnabled()
+                ? new TwoLevelCacheManager(redisCacheManager, nearCacheProperties, nearCacheInvalidation)
+                : redisCacheManager;
+
+        OrderSearchCacheIndex searchCacheIndex = new OrderSearchCacheIndex(stringRedisTemplate, "orderSearchCache",
+                orderSearchProperties.getCacheTtl().multipliedBy(2), orderSearchProperties.getRecentWriteWindow());
+        return new DecoratingCacheManager(cacheManager, Map.of(
+                "orderCache", SingleFlightCache::new,
+                "orderCountCache", SingleFlightCache::new,
+                "orderSearchCache", cache -> new OrderSearchCache(cache, searchCacheIndex)
+        ), cache -> new MeteredCache(cache, meterRegistry));
     }
 
     @Bean
@@ -47,24 +108,7 @@ public class CacheConfig {
             OrderSearchDto searchDto = params.length > 0 && params[0] instanceof OrderSearchDto ? (OrderSearchDto) params[0] : new OrderSearchDto();
             Pageable pageable = params.length > 1 && params[1] instanceof Pageable ? (Pageable) params[1] : Pageable.unpaged();
 
-            StringBuilder sb = new StringBuilder();
-
-            if (searchDto.getStatus() != null) {
-                sb.append("status_").append(searchDto.getStatus());
-            }
-
-            if (searchDto.getOrderItemIds() != null && !searchDto.getOrderItemIds().isEmpty()) {
-                String orderItemIdsStr = searchDto.getOrderItemIds().stream()
-                        .sorted()
-                        .map(String::valueOf)
-                        .collect(Collectors.joining(","));
-                sb.append("orderItemIds_").append(orderItemIdsStr).append("_");
-            }
-
-            sb.append("pageNum").append(pageable.getPageNumber());
-            sb.append("pageSize").append(pageable.getPageSize());
-
-            return sb.toString();
+            return OrderSearchCacheKey.of(searchDto, pageable);
         };
     }
 }
@@ -0,0 +1,19 @@
+package com.sparta.msa_exam.order.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Set;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "order.cache.near")
+public class NearCacheProperties {
+    private boolean enabled = true;
+    private Set<String> cacheNames = Set.of("orderCache");
+    private long maximumSize = 10_000;
+    private Duration ttl = Duration.ofSeconds(10);
+    private String channel = "order-cache:invalidation";
+}
@@ -0,0 +1,30 @@
+package com.sparta.msa_exam.order.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class OrderAcceptanceConfig {
+    @Bean
+    public ThreadPoolTaskExecutor orderAcceptanceExecutor(OrderAcceptanceProperties properties, MeterRegistry meterRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("order-acceptance-");
+        executor.setCorePoolSize(properties.getWorkers());
+        executor.setMaxPoolSize(properties.getWorkers());
+        executor.setQueueCapacity(properties.getQueueCapacity());
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+
+        Gauge.builder("order.acceptance.queue.depth", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+                .description("Accepted orders waiting for stock reservation")
+                .register(meterRegistry);
+        Gauge.builder("order.acceptance.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .register(meterRegistry);
+        return executor;
+    }
+}
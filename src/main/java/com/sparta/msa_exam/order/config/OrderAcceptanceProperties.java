@@ -0,0 +1,21 @@
+package com.sparta.msa_exam.order.config;
+
+import com.sparta.msa_exam.order.enums.OrderAcceptanceMode;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "order.acceptance")
+public class OrderAcceptanceProperties {
+    private OrderAcceptanceMode mode = OrderAcceptanceMode.SYNC;
+    private int asyncMinItems = 1;
+    private int workers = 8;
+    private int queueCapacity = 500;
+    private Duration claimTimeout = Duration.ofMinutes(5);
+    private Duration recoveryInterval = Duration.ofMinutes(1);
+    private int recoveryBatchSize = 100;
+}
@@ -0,0 +1,23 @@
+package com.sparta.msa_exam.order.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "order.archive")
+public class OrderArchiveProperties {
+    private boolean enabled = false;
+    private Duration retention = Duration.ofDays(180);
+    private Duration deletedGracePeriod = Duration.ofDays(1);
+    private int batchSize = 1000;
+    private int maxBatchesPerRun = 100;
+    private Duration interval = Duration.ofMinutes(10);
+    private String lockKey = "order-archive:lock";
+    private Duration lockTtl = Duration.ofMinutes(10);
+    private boolean partitionMaintenanceEnabled = false;
+    private int partitionsAhead = 3;
+}
@@ -0,0 +1,13 @@
+package com.sparta.msa_exam.order.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "order.bulk")
+public class OrderBulkProperties {
+    private int maxOrders = 50_000;
+    private int chunkSize = 500;
+}
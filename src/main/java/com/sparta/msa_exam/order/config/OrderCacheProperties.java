@@ -0,0 +1,15 @@
+package com.sparta.msa_exam.order.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "order.cache")
+public class OrderCacheProperties {
+    private Duration ttl = Duration.ofSeconds(60);
+    private double ttlJitter = 0.2;
+}
@@ -0,0 +1,20 @@
+package com.sparta.msa_exam.order.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "order.cache.warmup")
+public class OrderCacheWarmupProperties {
+    private boolean enabled = true;
+    private int maxEntries = 10_000;
+    private int batchSize = 500;
+    private int batchesPerSecond = 4;
+    private Duration timeout = Duration.ofMinutes(2);
+    private String markerKey = "orderCache:warmup-marker";
+    private Duration redisCheckInterval = Duration.ofSeconds(30);
+}
@@ -0,0 +1,12 @@
+package com.sparta.msa_exam.order.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "order.export")
+public class OrderExportProperties {
+    private int fetchSize = 1000;
+}
@@ -0,0 +1,18 @@
+package com.sparta.msa_exam.order.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "order.search")
+public class OrderSearchProperties {
+    private Duration cacheTtl = Duration.ofSeconds(30);
+    private Duration countCacheTtl = Duration.ofSeconds(10);
+    private Duration recentWriteWindow = Duration.ofSeconds(5);
+    private Duration indexTrimInterval = Duration.ofMinutes(1);
+    private int maxLookupIds = 100;
+}
@@ -0,0 +1,19 @@
+package com.sparta.msa_exam.order.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "order.outbox")
+public class OutboxProperties {
+    private boolean relayEnabled = true;
+    private int batchSize = 500;
+    private Duration flushInterval = Duration.ofSeconds(1);
+    private String streamKey = "order-events";
+    private long streamMaxLength = 100_000;
+    private Duration retention = Duration.ofDays(1);
+}
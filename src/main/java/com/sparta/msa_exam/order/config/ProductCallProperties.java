@@ -0,0 +1,15 @@
+package com.sparta.msa_exam.order.config;
+
+import com.sparta.msa_exam.order.enums.ProductCallMode;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "order.product-call")
+public class ProductCallProperties {
+    private ProductCallMode mode = ProductCallMode.BATCH;
+    private int maxConcurrency = 16;
+    private int queueCapacity = 256;
+}
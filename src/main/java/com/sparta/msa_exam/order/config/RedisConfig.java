@@ -1,24 +1,42 @@
 package com.sparta.msa_exam.order.config;
 
+import com.sparta.msa_exam.order.cache.CompactRedisSerializer;
+import com.sparta.msa_exam.order.cache.JitteredTtlFunction;
+import com.sparta.msa_exam.order.cache.NearCacheInvalidation;
+import com.sparta.msa_exam.order.cache.OrderCacheBatch;
 import com.sparta.msa_exam.order.dto.OrderResponseDto;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.RedisSerializer;
 
 @Configuration
 public class RedisConfig {
     @Bean
-    public RedisTemplate<String, OrderResponseDto> orderTemplate(RedisConnectionFactory redisConnectionFactory) {
+    public RedisTemplate<String, OrderResponseDto> orderTemplate(RedisConnectionFactory redisConnectionFactory, CacheCodecProperties cacheCodecProperties) {
         RedisTemplate<String, OrderResponseDto> template = new RedisTemplate<>();
         template.setConnectionFactory(redisConnectionFactory);
 
-        Jackson2JsonRedisSerializer<OrderResponseDto> serializer = new Jackson2JsonRedisSerializer<>(OrderResponseDto.class);
+        CompactRedisSerializer<OrderResponseDto> serializer = new CompactRedisSerializer<>(OrderResponseDto.class, cacheCodecProperties);
 
         template.setValueSerializer(serializer);
         template.setKeySerializer(RedisSerializer.string());
         return template;
     }
+
+    @Bean
+    public OrderCacheBatch orderCacheBatch(RedisTemplate<String, OrderResponseDto> orderTemplate, OrderCacheProperties orderCacheProperties) {
+        return new OrderCacheBatch(orderTemplate, new JitteredTtlFunction(orderCacheProperties.getTtl(), orderCacheProperties.getTtlJitter()));
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory, NearCacheInvalidation nearCacheInvalidation) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(nearCacheInvalidation, new ChannelTopic(nearCacheInvalidation.getChannel()));
+        return container;
+    }
 }
@@ -0,0 +1,20 @@
+package com.sparta.msa_exam.order.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "order.stock-ledger")
+public class StockLedgerProperties {
+    private Duration reservationTtl = Duration.ofMinutes(2);
+    private Duration stockTtl = Duration.ofMinutes(10);
+    private Duration recordTtl = Duration.ofHours(1);
+    private Duration syncInterval = Duration.ofSeconds(1);
+    private Duration syncLeaseTtl = Duration.ofSeconds(30);
+    private Duration sweepInterval = Duration.ofSeconds(5);
+    private int sweepBatchSize = 100;
+}
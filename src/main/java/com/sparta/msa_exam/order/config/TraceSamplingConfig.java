@@ -0,0 +1,23 @@
+package com.sparta.msa_exam.order.config;
+
+import com.sparta.msa_exam.order.tracing.EndpointAwareSampler;
+import com.sparta.msa_exam.order.tracing.TraceSamplingFilter;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class TraceSamplingConfig {
+    @Bean
+    public EndpointAwareSampler endpointAwareSampler(TraceSamplingProperties properties) {
+        return new EndpointAwareSampler(properties);
+    }
+
+    @Bean
+    public FilterRegistrationBean<TraceSamplingFilter> traceSamplingFilter(EndpointAwareSampler endpointAwareSampler) {
+        FilterRegistrationBean<TraceSamplingFilter> registration = new FilterRegistrationBean<>(new TraceSamplingFilter(endpointAwareSampler));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -0,0 +1,37 @@
+package com.sparta.msa_exam.order.config;
+
+import com.sparta.msa_exam.order.enums.TraceSamplingMode;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "order.tracing.sampling")
+public class TraceSamplingProperties {
+    private TraceSamplingMode mode = TraceSamplingMode.PROBABILITY;
+    private float probability = 0.1f;
+    private int tracesPerSecond = 10;
+    private List<Rule> rules = new ArrayList<>();
+    private Boost boost = new Boost();
+
+    @Getter
+    @Setter
+    public static class Rule {
+        private String pattern;
+        private float probability;
+    }
+
+    @Getter
+    @Setter
+    public static class Boost {
+        private boolean enabled = true;
+        private Duration slowThreshold = Duration.ofSeconds(1);
+        private Duration window = Duration.ofSeconds(30);
+        private int tracesPerSecond = 50;
+    }
+}
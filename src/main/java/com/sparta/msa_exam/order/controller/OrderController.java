@@ -1,17 +1,30 @@
 package com.sparta.msa_exam.order.controller;
 
+import com.sparta.msa_exam.order.dto.BulkOrderResponseDto;
+import com.sparta.msa_exam.order.dto.OrderCursorPageDto;
 import com.sparta.msa_exam.order.dto.OrderRequestDto;
 import com.sparta.msa_exam.order.dto.OrderResponseDto;
 import com.sparta.msa_exam.order.dto.OrderSearchDto;
+import com.sparta.msa_exam.order.enums.OrderExportFormat;
 import com.sparta.msa_exam.order.enums.OrderStatus;
+import com.sparta.msa_exam.order.service.OrderAcceptanceService;
+import com.sparta.msa_exam.order.service.OrderBulkService;
+import com.sparta.msa_exam.order.service.OrderExportService;
+import com.sparta.msa_exam.order.service.OrderLookupService;
 import com.sparta.msa_exam.order.service.OrderService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
@@ -21,16 +34,36 @@ import java.util.Map;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderAcceptanceService orderAcceptanceService;
+    private final OrderBulkService orderBulkService;
+    private final OrderExportService orderExportService;
+    private final OrderLookupService orderLookupService;
 
     @PostMapping
-    public OrderResponseDto createOrder(@RequestBody OrderRequestDto orderRequestDto,
-                                        @RequestParam(value = "fail", required = false) Boolean isFail,
-                                        @RequestHeader(value = "X-User-Id", required = true) String userId,
-                                        @RequestHeader(value = "X-Role", required = true) String role) {
+    public ResponseEntity<OrderResponseDto> createOrder(@RequestBody OrderRequestDto orderRequestDto,
+                                                        @RequestParam(value = "fail", required = false) Boolean isFail,
+                                                        @RequestHeader(value = "X-User-Id", required = true) String userId,
+                                                        @RequestHeader(value = "X-Role", required = true) String role) {
         if (isFail != null && isFail) {
-            return orderService.createOrderFailCase(orderRequestDto, true);
+            return ResponseEntity.ok(orderService.createOrderFailCase(orderRequestDto, true));
+        }
+        if (orderAcceptanceService.shouldAccept(orderRequestDto)) {
+            OrderResponseDto accepted = orderAcceptanceService.accept(orderRequestDto, userId);
+            return ResponseEntity.accepted()
+                    .location(ServletUriComponentsBuilder.fromCurrentRequestUri()
+                            .path("/{orderId}")
+                            .buildAndExpand(accepted.getOrderId())
+                            .toUri())
+                    .body(accepted);
         }
-        return orderService.createOrder(orderRequestDto, userId);
+        return ResponseEntity.ok(orderService.createOrder(orderRequestDto, userId));
+    }
+
+    @PostMapping("/bulk")
+    public BulkOrderResponseDto createOrders(@RequestBody List<OrderRequestDto> orderRequestDtos,
+                                             @RequestHeader(value = "X-User-Id", required = true) String userId,
+                                             @RequestHeader(value = "X-Role", required = true) String role) {
+        return orderBulkService.createOrders(orderRequestDtos, userId);
     }
 
     @GetMapping
@@ -47,6 +80,63 @@ public class OrderController {
         return orderService.getOrders(searchDto, pageable, role, userId);
     }
 
+    @GetMapping(params = "ids")
+    public List<OrderResponseDto> getOrdersByIds(@RequestParam List<Long> ids) {
+        return orderLookupService.getOrdersByIds(ids);
+    }
+
+    @GetMapping("/slice")
+    public Slice<OrderResponseDto> getOrderSlice(
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) List<Long> orderItemIds,
+            Pageable pageable,
+            @RequestHeader(value = "X-User-Id", required = true) String userId,
+            @RequestHeader(value = "X-Role", required = true) String role) {
+        if (!"MANAGER".equals(role)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Access denied. User role is not MANAGER.");
+        }
+        OrderSearchDto searchDto = new OrderSearchDto(status, orderItemIds);
+        return orderService.getOrderSlice(searchDto, pageable, role, userId);
+    }
+
+    @GetMapping("/cursor")
+    public OrderCursorPageDto getOrdersByCursor(
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) List<Long> orderItemIds,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestHeader(value = "X-User-Id", required = true) String userId,
+            @RequestHeader(value = "X-Role", required = true) String role) {
+        if (!"MANAGER".equals(role)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Access denied. User role is not MANAGER.");
+        }
+        if (size < 1 || size > 100) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Size must be between 1 and 100.");
+        }
+        OrderSearchDto searchDto = new OrderSearchDto(status, orderItemIds);
+        return orderService.getOrdersByCursor(searchDto, cursor, size, role, userId);
+    }
+
+    @GetMapping("/export")
+    public void exportOrders(
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) List<Long> orderItemIds,
+            @RequestParam(defaultValue = "NDJSON") OrderExportFormat format,
+            @RequestHeader(value = "X-User-Id", required = true) String userId,
+            @RequestHeader(value = "X-Role", required = true) String role,
+            HttpServletResponse response) throws IOException {
+        if (!"MANAGER".equals(role)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Access denied. User role is not MANAGER.");
+        }
+        boolean csv = format == OrderExportFormat.CSV;
+        response.setContentType(csv ? "text/csv" : "application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"orders." + (csv ? "csv" : "ndjson") + "\"");
+
+        OrderSearchDto searchDto = new OrderSearchDto(status, orderItemIds);
+        orderExportService.exportOrders(searchDto, role, userId, format, response.getOutputStream());
+    }
+
     @GetMapping("/{orderId}")
     public OrderResponseDto getOrderById(@PathVariable Long orderId) {
         return orderService.getOrderById(orderId);
@@ -0,0 +1,15 @@
+package com.sparta.msa_exam.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOrderResponseDto {
+    private int count;
+    private List<Long> orderIds;
+}
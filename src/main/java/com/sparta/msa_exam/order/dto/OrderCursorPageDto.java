@@ -0,0 +1,19 @@
+package com.sparta.msa_exam.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderCursorPageDto {
+    private List<OrderResponseDto> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
@@ -12,20 +12,26 @@ import java.util.List;
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_orders_deleted_at", columnList = "deleted_at")
+})
 public class Order {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = 50)
     private Long id;
 
     @Enumerated(EnumType.STRING)
     private OrderStatus status;
 
     @ElementCollection
-    @CollectionTable(name = "order_items", joinColumns = @JoinColumn(name = "order_id"))
+    @CollectionTable(name = "order_items", joinColumns = @JoinColumn(name = "order_id"),
+            indexes = @Index(name = "idx_order_items_item_order", columnList = "order_item_id, order_id"))
     @Column(name = "order_item_id")
     private List<Long> orderItemIds;
 
+    @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
     private String createdBy;
     private LocalDateTime updatedAt;
@@ -33,6 +39,10 @@ public class Order {
     private LocalDateTime deletedAt;
     private String deletedBy;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -0,0 +1,33 @@
+package com.sparta.msa_exam.order.entity;
+
+import com.sparta.msa_exam.order.enums.OrderStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "orders_archive", indexes = @Index(name = "idx_orders_archive_archived_at", columnList = "archived_at"))
+public class OrderArchive {
+    @Id
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    private OrderStatus status;
+
+    @ElementCollection
+    @CollectionTable(name = "order_items_archive", joinColumns = @JoinColumn(name = "order_id"))
+    @Column(name = "order_item_id")
+    private List<Long> orderItemIds;
+
+    private LocalDateTime createdAt;
+    private String createdBy;
+    private LocalDateTime updatedAt;
+    private String updatedBy;
+    private LocalDateTime deletedAt;
+    private String deletedBy;
+    private LocalDateTime archivedAt;
+}
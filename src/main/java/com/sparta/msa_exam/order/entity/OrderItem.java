@@ -0,0 +1,35 @@
+package com.sparta.msa_exam.order.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Subselect;
+import org.hibernate.annotations.Synchronize;
+
+import java.io.Serializable;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Immutable
+@Subselect("select order_id, order_item_id from order_items")
+@Synchronize("order_items")
+@IdClass(OrderItem.OrderItemKey.class)
+public class OrderItem {
+    @Id
+    @Column(name = "order_id")
+    private Long orderId;
+
+    @Id
+    @Column(name = "order_item_id")
+    private Long orderItemId;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class OrderItemKey implements Serializable {
+        private Long orderId;
+        private Long orderItemId;
+    }
+}
@@ -0,0 +1,5 @@
+package com.sparta.msa_exam.order.enums;
+
+public enum OrderEventType {
+    ORDER_CREATED, ORDER_UPDATED, ORDER_DELETED
+}
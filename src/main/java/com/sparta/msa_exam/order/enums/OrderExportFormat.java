@@ -0,0 +1,5 @@
+package com.sparta.msa_exam.order.enums;
+
+public enum OrderExportFormat {
+    NDJSON, CSV
+}
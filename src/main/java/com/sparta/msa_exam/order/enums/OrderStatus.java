@@ -1,5 +1,5 @@
 package com.sparta.msa_exam.order.enums;
 
 public enum OrderStatus {
-    CREATED, PAID, SHIPPED, COMPLETED, CANCELLED
+    PENDING, CREATED, PAID, SHIPPED, COMPLETED, CANCELLED
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.sparta.msa_exam.order.exception;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -13,4 +14,10 @@ public class GlobalExceptionHandler {
         RestApiException restApiException = new RestApiException(ex.getMessage(), HttpStatus.SERVICE_UNAVAILABLE.value());
         return new ResponseEntity<>(restApiException, HttpStatus.SERVICE_UNAVAILABLE);
     }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Object> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        RestApiException restApiException = new RestApiException("다른 요청이 주문을 먼저 변경했습니다. 다시 시도 해주세요.", HttpStatus.CONFLICT.value());
+        return new ResponseEntity<>(restApiException, HttpStatus.CONFLICT);
+    }
 }
@@ -0,0 +1,54 @@
+package com.sparta.msa_exam.order.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+@Component
+@RequiredArgsConstructor
+public class OrderMetrics {
+
+    public static final String PRODUCT_CHECK = "product_check";
+    public static final String STOCK_REDUCTION = "stock_reduction";
+    public static final String STOCK_CONFIRM = "stock_confirm";
+    public static final String DB_SAVE = "db_save";
+    public static final String SEARCH_QUERY = "search_query";
+    public static final String SEARCH_COUNT = "search_count";
+
+    private final MeterRegistry meterRegistry;
+
+    public <T> T record(String stage, Supplier<T> action) {
+        Timer.Sample sample = start();
+        boolean success = false;
+        try {
+            T result = action.get();
+            success = true;
+            return result;
+        } finally {
+            stop(sample, stage, success);
+        }
+    }
+
+    public void recordRunnable(String stage, Runnable action) {
+        record(stage, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void stop(Timer.Sample sample, String stage, boolean success) {
+        sample.stop(Timer.builder("order.stage")
+                .description("Time spent in each order processing stage")
+                .tag("stage", stage)
+                .tag("outcome", success ? "success" : "error")
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+}
@@ -1,7 +1,37 @@
 package com.sparta.msa_exam.order.repository;
 
 import com.sparta.msa_exam.order.entity.Order;
+import com.sparta.msa_exam.order.enums.OrderStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface OrderRepository extends JpaRepository<Order, Long>, OrderRepositoryCustom {
+
+    @Query("select i from Order o join o.orderItemIds i where o.id = :orderId")
+    List<Long> findOrderItemIds(@Param("orderId") Long orderId);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Order o set o.updatedAt = :now where o.id = :orderId and o.status = :status and o.deletedAt is null " +
+            "and (o.updatedAt is null or o.updatedAt < :staleBefore)")
+    int claim(@Param("orderId") Long orderId, @Param("status") OrderStatus status,
+              @Param("now") LocalDateTime now, @Param("staleBefore") LocalDateTime staleBefore);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Order o set o.status = :status, o.updatedAt = :now, o.version = o.version + 1 " +
+            "where o.id = :orderId and o.status = :expected and o.deletedAt is null")
+    int transition(@Param("orderId") Long orderId, @Param("expected") OrderStatus expected,
+                   @Param("status") OrderStatus status, @Param("now") LocalDateTime now);
+
+    @Query("select o.id from Order o where o.status = :status and o.deletedAt is null " +
+            "and coalesce(o.updatedAt, o.createdAt) < :staleBefore order by o.id")
+    List<Long> findStaleIds(@Param("status") OrderStatus status, @Param("staleBefore") LocalDateTime staleBefore, Pageable pageable);
 }
@@ -1,10 +1,27 @@
 package com.sparta.msa_exam.order.repository;
 
+import com.sparta.msa_exam.order.dto.OrderCursor;
+import com.sparta.msa_exam.order.dto.OrderCursorPageDto;
 import com.sparta.msa_exam.order.dto.OrderResponseDto;
 import com.sparta.msa_exam.order.dto.OrderSearchDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
 
 public interface OrderRepositoryCustom {
     Page<OrderResponseDto> searchOrders(OrderSearchDto searchDto, Pageable pageable, String role, String userId);
+
+    Slice<OrderResponseDto> searchOrderSlice(OrderSearchDto searchDto, Pageable pageable, String role, String userId);
+
+    OrderCursorPageDto searchOrdersByCursor(OrderSearchDto searchDto, OrderCursor cursor, int size, String role, String userId);
+
+    List<OrderResponseDto> findOrdersByIds(Collection<Long> orderIds);
+
+    List<OrderResponseDto> findRecentOrders(OrderCursor cursor, int size);
+
+    void exportOrders(OrderSearchDto searchDto, String role, String userId, int fetchSize, Consumer<OrderResponseDto> consumer);
 }
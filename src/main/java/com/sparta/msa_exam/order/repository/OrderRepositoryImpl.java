@@ -1,75 +1,303 @@
 package com.sparta.msa_exam.order.repository;
 
-import com.querydsl.core.QueryResults;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sparta.msa_exam.order.dto.OrderCursor;
+import com.sparta.msa_exam.order.dto.OrderCursorPageDto;
 import com.sparta.msa_exam.order.dto.OrderResponseDto;
 import com.sparta.msa_exam.order.dto.OrderSearchDto;
-import com.sparta.msa_exam.order.entity.Order;
 import com.sparta.msa_exam.order.entity.QOrder;
 import com.sparta.msa_exam.order.enums.OrderStatus;
+import com.sparta.msa_exam.order.metrics.OrderMetrics;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.sparta.msa_exam.order.entity.QOrder.order;
+import static com.sparta.msa_exam.order.entity.QOrderItem.orderItem;
 
 @RequiredArgsConstructor
 public class OrderRepositoryImpl implements OrderRepositoryCustom {
 
+    private static final Expression<?>[] ORDER_COLUMNS = {
+            order.id, order.status, order.createdAt, order.createdBy, order.updatedAt, order.updatedBy
+    };
+
     private final JPAQueryFactory queryFactory;
+    private final CacheManager cacheManager;
+    private final OrderMetrics orderMetrics;
 
     @Override
     public Page<OrderResponseDto> searchOrders(OrderSearchDto searchDto, Pageable pageable, String role, String userId) {
+        List<OrderResponseDto> content = orderMetrics.record(OrderMetrics.SEARCH_QUERY,
+                () -> toResponseDtos(fetchPage(searchDto, pageable, pageable.getPageSize(), role, userId)));
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> countOrders(searchDto, role, userId));
+    }
+
+    @Override
+    public Slice<OrderResponseDto> searchOrderSlice(OrderSearchDto searchDto, Pageable pageable, String role, String userId) {
+        return orderMetrics.record(OrderMetrics.SEARCH_QUERY, () -> {
+            List<Tuple> rows = fetchPage(searchDto, pageable, pageable.getPageSize() + 1, role, userId);
 
+            boolean hasNext = rows.size() > pageable.getPageSize();
+            if (hasNext) {
+                rows = rows.subList(0, pageable.getPageSize());
+            }
+
+            return new SliceImpl<>(toResponseDtos(rows), pageable, hasNext);
+        });
+    }
+
+    private List<Tuple> fetchPage(OrderSearchDto searchDto, Pageable pageable, int limit, String role, String userId) {
         List<OrderSpecifier<?>> orders = getAllOrderSpecifiers(pageable);
 
-        QueryResults<Order> results = queryFactory
-                .selectFrom(order)
+        return queryFactory
+                .select(ORDER_COLUMNS)
+                .from(order)
                 .where(
+                        notDeleted(),
                         statusEq(searchDto.getStatus()),
                         orderItemIdsIn(searchDto.getOrderItemIds()),
                         userCheck(role, userId)
                 )
                 .orderBy(orders.toArray(new OrderSpecifier[0]))
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetchResults();
-
-        List<OrderResponseDto> content = results.getResults().stream()
-                .map(order -> new OrderResponseDto(
-                        order.getId(),
-                        order.getStatus().name(),
-                        order.getCreatedAt(),
-                        order.getCreatedBy(),
-                        order.getUpdatedAt(),
-                        order.getUpdatedBy(),
-                        order.getOrderItemIds()
+                .limit(limit)
+                .fetch();
+    }
+
+    private long countOrders(OrderSearchDto searchDto, String role, String userId) {
+        Cache countCache = cacheManager.getCache("orderCountCache");
+        if (countCache == null) {
+            return fetchCount(searchDto, role, userId);
+        }
+        Long total = countCache.get(countCacheKey(searchDto, role, userId), () -> fetchCount(searchDto, role, userId));
+        return total != null ? total : 0L;
+    }
+
+    private long fetchCount(OrderSearchDto searchDto, String role, String userId) {
+        Long total = orderMetrics.record(OrderMetrics.SEARCH_COUNT, () -> queryFactory
+                .select(order.count())
+                .from(order)
+                .where(
+                        notDeleted(),
+                        statusEq(searchDto.getStatus()),
+                        orderItemIdsIn(searchDto.getOrderItemIds()),
+                        userCheck(role, userId)
+                )
+                .fetchOne());
+        return total != null ? total : 0L;
+    }
+
+    private String countCacheKey(OrderSearchDto searchDto, String role, String userId) {
+        StringBuilder sb = new StringBuilder();
+
+        if (searchDto.getStatus() != null) {
+            sb.append("status_").append(searchDto.getStatus()).append("_");
+        }
+
+        if (searchDto.getOrderItemIds() != null && !searchDto.getOrderItemIds().isEmpty()) {
+            String orderItemIdsStr = searchDto.getOrderItemIds().stream()
+                    .distinct()
+                    .sorted()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(","));
+            sb.append("orderItemIds_").append(orderItemIdsStr).append("_");
+        }
+
+        if (role.equals("MEMBER")) {
+            sb.append("user_").append(userId).append("_");
+        }
+
+        sb.append("count");
+
+        return sb.toString();
+    }
+
+    @Override
+    public OrderCursorPageDto searchOrdersByCursor(OrderSearchDto searchDto, OrderCursor cursor, int size, String role, String userId) {
+        return orderMetrics.record(OrderMetrics.SEARCH_QUERY, () -> fetchCursorPage(searchDto, cursor, size, role, userId));
+    }
+
+    private OrderCursorPageDto fetchCursorPage(OrderSearchDto searchDto, OrderCursor cursor, int size, String role, String userId) {
+        List<Tuple> rows = queryFactory
+                .select(ORDER_COLUMNS)
+                .from(order)
+                .where(
+                        notDeleted(),
+                        statusEq(searchDto.getStatus()),
+                        orderItemIdsIn(searchDto.getOrderItemIds()),
+                        userCheck(role, userId),
+                        cursorBefore(cursor)
+                )
+                .orderBy(order.createdAt.desc(), order.id.desc())
+                .limit(size + 1L)
+                .fetch();
+
+        boolean hasNext = rows.size() > size;
+        if (hasNext) {
+            rows = rows.subList(0, size);
+        }
+        List<OrderResponseDto> content = toResponseDtos(rows);
+
+        String nextCursor = hasNext ? OrderCursor.from(content.get(content.size() - 1)).encode() : null;
+
+        return new OrderCursorPageDto(content, size, hasNext, nextCursor);
+    }
+
+    @Override
+    public List<OrderResponseDto> findOrdersByIds(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return toResponseDtos(queryFactory
+                .select(ORDER_COLUMNS)
+                .from(order)
+                .where(order.id.in(orderIds), notDeleted())
+                .fetch());
+    }
+
+    @Override
+    public List<OrderResponseDto> findRecentOrders(OrderCursor cursor, int size) {
+        return toResponseDtos(queryFactory
+                .select(ORDER_COLUMNS)
+                .from(order)
+                .where(notDeleted(), cursorBefore(cursor))
+                .orderBy(order.createdAt.desc(), order.id.desc())
+                .limit(size)
+                .fetch());
+    }
+
+    @Override
+    public void exportOrders(OrderSearchDto searchDto, String role, String userId, int fetchSize, Consumer<OrderResponseDto> consumer) {
+        try (Stream<Tuple> rows = queryFactory
+                .select(order.id, order.status, order.createdAt, order.createdBy, order.updatedAt, order.updatedBy, orderItem.orderItemId)
+                .from(order)
+                .leftJoin(orderItem).on(orderItem.orderId.eq(order.id))
+                .where(
+                        notDeleted(),
+                        statusEq(searchDto.getStatus()),
+                        orderItemIdsIn(searchDto.getOrderItemIds()),
+                        userCheck(role, userId)
+                )
+                .orderBy(order.id.asc())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .stream()) {
+            OrderResponseDto current = null;
+            Iterator<Tuple> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                Tuple row = iterator.next();
+                Long orderId = row.get(order.id);
+                if (current == null || !current.getOrderId().equals(orderId)) {
+                    if (current != null) {
+                        consumer.accept(current);
+                    }
+                    current = new OrderResponseDto(
+                            orderId,
+                            row.get(order.status).name(),
+                            row.get(order.createdAt),
+                            row.get(order.createdBy),
+                            row.get(order.updatedAt),
+                            row.get(order.updatedBy),
+                            new ArrayList<>()
+                    );
+                }
+                Long orderItemId = row.get(orderItem.orderItemId);
+                if (orderItemId != null) {
+                    current.getOrderItemIds().add(orderItemId);
+                }
+            }
+            if (current != null) {
+                consumer.accept(current);
+            }
+        }
+    }
+
+    private List<OrderResponseDto> toResponseDtos(List<Tuple> rows) {
+        if (rows.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, List<Long>> orderItemIds = findOrderItemIds(rows.stream()
+                .map(row -> row.get(order.id))
+                .collect(Collectors.toList()));
+
+        return rows.stream()
+                .map(row -> new OrderResponseDto(
+                        row.get(order.id),
+                        row.get(order.status).name(),
+                        row.get(order.createdAt),
+                        row.get(order.createdBy),
+                        row.get(order.updatedAt),
+                        row.get(order.updatedBy),
+                        orderItemIds.getOrDefault(row.get(order.id), new ArrayList<>())
                 ))
                 .collect(Collectors.toList());
+    }
 
-        long total = results.getTotal();
+    private Map<Long, List<Long>> findOrderItemIds(List<Long> orderIds) {
+        return queryFactory
+                .select(orderItem.orderId, orderItem.orderItemId)
+                .from(orderItem)
+                .where(orderItem.orderId.in(orderIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.groupingBy(
+                        row -> row.get(orderItem.orderId),
+                        Collectors.mapping(row -> row.get(orderItem.orderItemId), Collectors.toList())
+                ));
+    }
 
-        return new PageImpl<>(content, pageable, total);
+    private BooleanExpression notDeleted() {
+        return order.deletedAt.isNull();
     }
 
     private BooleanExpression statusEq(OrderStatus status) {
         return status != null ? order.status.eq(status) : null;
     }
 
+    private BooleanExpression cursorBefore(OrderCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return order.createdAt.lt(cursor.getCreatedAt())
+                .or(order.createdAt.eq(cursor.getCreatedAt()).and(order.id.lt(cursor.getId())));
+    }
+
     private BooleanExpression userCheck(String role, String userId) {
         return role.equals("MEMBER") ? order.createdBy.eq(userId) : null;
     }
 
     private BooleanExpression orderItemIdsIn(List<Long> orderItemIds) {
-        return orderItemIds != null && !orderItemIds.isEmpty() ? order.orderItemIds.any().in(orderItemIds) : null;
+        if (orderItemIds == null || orderItemIds.isEmpty()) {
+            return null;
+        }
+        return order.id.in(JPAExpressions
+                .select(orderItem.orderId)
+                .from(orderItem)
+                .where(orderItem.orderItemId.in(orderItemIds)));
     }
 
     private List<OrderSpecifier<?>> getAllOrderSpecifiers(Pageable pageable) {
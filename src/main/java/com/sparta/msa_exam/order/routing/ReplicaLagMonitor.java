@@ -0,0 +1,65 @@
+package com.sparta.msa_exam.order.routing;
+
+import com.sparta.msa_exam.order.config.DataSourceRoutingProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final long UNKNOWN = -1;
+
+    private final ReplicationRoutingDataSource routingDataSource;
+    private final DataSourceRoutingProperties properties;
+    private final Map<String, AtomicLong> lagSeconds = new ConcurrentHashMap<>();
+
+    public ReplicaLagMonitor(ReplicationRoutingDataSource routingDataSource, DataSourceRoutingProperties properties, MeterRegistry meterRegistry) {
+        this.routingDataSource = routingDataSource;
+        this.properties = properties;
+
+        for (String replica : routingDataSource.getReplicas().keySet()) {
+            AtomicLong lag = lagSeconds.computeIfAbsent(replica, key -> new AtomicLong(UNKNOWN));
+            Gauge.builder("order.datasource.replica.lag", lag, AtomicLong::get)
+                    .tag("replica", replica)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${order.datasource.routing.lag-check-interval:PT5S}")
+    public void checkLag() {
+        for (Map.Entry<String, DataSource> replica : routingDataSource.getReplicas().entrySet()) {
+            Long lag = readLag(replica.getKey(), replica.getValue());
+            lagSeconds.get(replica.getKey()).set(lag != null ? lag : UNKNOWN);
+
+            boolean healthy = lag != null && lag <= properties.getMaxReplicaLag().toSeconds();
+            if (!healthy) {
+                log.warn("Routing reads away from replica {} (lag: {}s)", replica.getKey(), lag);
+            }
+            routingDataSource.setHealthy(replica.getKey(), healthy);
+        }
+    }
+
+    private Long readLag(String name, DataSource dataSource) {
+        try {
+            return new JdbcTemplate(dataSource).query("SHOW REPLICA STATUS", rs -> {
+                if (!rs.next()) {
+                    return null;
+                }
+                long lag = rs.getLong("Seconds_Behind_Source");
+                return rs.wasNull() ? null : lag;
+            });
+        } catch (RuntimeException e) {
+            log.warn("Failed to read replication lag of replica {}: {}", name, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.sparta.msa_exam.order.service;
+
+import com.sparta.msa_exam.order.cache.OrderSearchCacheEvictor;
+import com.sparta.msa_exam.order.config.OrderAcceptanceProperties;
+import com.sparta.msa_exam.order.dto.OrderRequestDto;
+import com.sparta.msa_exam.order.dto.OrderResponseDto;
+import com.sparta.msa_exam.order.entity.Order;
+import com.sparta.msa_exam.order.enums.OrderAcceptanceMode;
+import com.sparta.msa_exam.order.enums.OrderEventType;
+import com.sparta.msa_exam.order.enums.OrderStatus;
+import com.sparta.msa_exam.order.exception.ProductServiceUnavailableException;
+import com.sparta.msa_exam.order.repository.OrderRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderAcceptanceService {
+
+    private final OrderRepository orderRepository;
+    private final OrderEventOutbox orderEventOutbox;
+    private final ProductReservationService productReservationService;
+    private final OrderSearchCacheEvictor orderSearchCacheEvictor;
+    private final CacheManager cacheManager;
+    private final OrderAcceptanceProperties properties;
+    private final Executor orderAcceptanceExecutor;
+    private final MeterRegistry meterRegistry;
+
+    public boolean shouldAccept(OrderRequestDto requestDto) {
+        return properties.getMode() == OrderAcceptanceMode.ASYNC
+                && requestDto.getOrderItemIds() != null
+                && requestDto.getOrderItemIds().size() >= properties.getAsyncMinItems();
+    }
+
+    public OrderResponseDto accept(OrderRequestDto requestDto, String userId) {
+        if (requestDto.getOrderItemIds() == null || requestDto.getOrderItemIds().isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Order must contain at least one item.");
+        }
+
+        Order order = Order.builder()
+                .orderItemIds(requestDto.getOrderItemIds())
+                .createdBy(userId)
+                .status(OrderStatus.PENDING)
+                .build();
+
+        Order savedOrder = orderEventOutbox.saveAndRecord(order, OrderEventType.ORDER_CREATED);
+        OrderResponseDto response = OrderService.toResponseDto(savedOrder);
+        cacheOrder(response);
+        orderSearchCacheEvictor.evict(List.of(OrderStatus.PENDING), savedOrder.getOrderItemIds());
+
+        try {
+            submit(savedOrder.getId());
+        } catch (TaskRejectedException | RejectedExecutionException e) {
+            log.warn("Order acceptance queue is full, cancelling order {}", savedOrder.getId());
+            finish(savedOrder.getId(), OrderStatus.CANCELLED, StockReservation.none());
+            throw new ProductServiceUnavailableException("잠시 후에 주문 추가를 요청 해주세요.");
+        }
+        return response;
+    }
+
+    @Scheduled(initialDelayString = "${order.acceptance.recovery-interval:PT1M}",
+            fixedDelayString = "${order.acceptance.recovery-interval:PT1M}")
+    public void recoverStalePending() {
+        LocalDateTime staleBefore = LocalDateTime.now().minus(properties.getClaimTimeout());
+        List<Long> orderIds = orderRepository.findStaleIds(OrderStatus.PENDING, staleBefore,
+                PageRequest.of(0, properties.getRecoveryBatchSize()));
+
+        for (Long orderId : orderIds) {
+            try {
+                submit(orderId);
+            } catch (TaskRejectedException | RejectedExecutionException e) {
+                log.warn("Order acceptance queue is full, deferring recovery of {} orders", orderIds.size());
+                return;
+            }
+        }
+        if (!orderIds.isEmpty()) {
+            log.info("Re-enqueued {} stale pending orders", orderIds.size());
+        }
+    }
+
+    private void submit(Long orderId) {
+        long enqueuedAt = System.nanoTime();
+        orderAcceptanceExecutor.execute(() -> {
+            meterRegistry.timer("order.acceptance.lag").record(Duration.ofNanos(System.nanoTime() - enqueuedAt));
+            complete(orderId);
+        });
+    }
+
+    private void complete(Long orderId) {
+        LocalDateTime now = LocalDateTime.now();
+        if (orderRepository.claim(orderId, OrderStatus.PENDING, now, now.minus(properties.getClaimTimeout())) == 0) {
+            return;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        OrderStatus status = OrderStatus.CREATED;
+        StockReservation reservation = StockReservation.none();
+        try {
+            reservation = productReservationService.reserve("order-" + orderId, orderRepository.findOrderItemIds(orderId));
+        } catch (RuntimeException e) {
+            log.info("Cancelling order {}: {}", orderId, e.getMessage());
+            status = OrderStatus.CANCELLED;
+        }
+
+        try {
+            finish(orderId, status, reservation);
+        } catch (RuntimeException e) {
+            log.error("Failed to complete order {} as {}", orderId, status, e);
+            reservation.release();
+        } finally {
+            sample.stop(meterRegistry.timer("order.acceptance.processing", "status", status.name()));
+        }
+    }
+
+    private void finish(Long orderId, OrderStatus status, StockReservation reservation) {
+        reservation.hold();
+        Order savedOrder = orderEventOutbox.transitionAndRecord(orderId, OrderStatus.PENDING, status, OrderEventType.ORDER_UPDATED);
+        if (savedOrder == null) {
+            log.info("Order {} is no longer pending, releasing its stock reservation", orderId);
+            reservation.release();
+            return;
+        }
+
+        reservation.confirm();
+        cacheOrder(OrderService.toResponseDto(savedOrder));
+        orderSearchCacheEvictor.evict(List.of(OrderStatus.PENDING, status), savedOrder.getOrderItemIds());
+    }
+
+    private void cacheOrder(OrderResponseDto response) {
+        Cache cache = cacheManager.getCache("orderCache");
+        if (cache != null) {
+            cache.put(response.getOrderId(), response);
+        }
+    }
+}
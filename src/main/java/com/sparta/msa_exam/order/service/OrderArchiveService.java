@@ -0,0 +1,185 @@
+package com.sparta.msa_exam.order.service;
+
+import com.sparta.msa_exam.order.cache.OrderSearchCacheEvictor;
+import com.sparta.msa_exam.order.config.OrderArchiveProperties;
+import com.sparta.msa_exam.order.enums.OrderStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "order.archive", name = "enabled", havingValue = "true")
+public class OrderArchiveService {
+
+    private static final String SELECT_AGED = """
+            select id from orders
+            where created_at < :agedBefore
+            order by created_at, id
+            limit :limit""";
+    private static final String SELECT_DELETED = """
+            select id from orders
+            where deleted_at < :deletedBefore
+            order by deleted_at, id
+            limit :limit""";
+    private static final String SELECT_STATUSES = "select distinct status from orders where id in (:ids)";
+    private static final String SELECT_ITEMS = "select distinct order_item_id from order_items where order_id in (:ids)";
+    private static final String ARCHIVE_ORDERS = """
+            insert into orders_archive (id, status, created_at, created_by, updated_at, updated_by, deleted_at, deleted_by, archived_at)
+            select id, status, created_at, created_by, updated_at, updated_by, deleted_at, deleted_by, :archivedAt
+            from orders where id in (:ids)""";
+    private static final String ARCHIVE_ITEMS = """
+            insert into order_items_archive (order_id, order_item_id)
+            select order_id, order_item_id from order_items where order_id in (:ids)""";
+    private static final String DELETE_ITEMS = "delete from order_items where order_id in (:ids)";
+    private static final String DELETE_ORDERS = "delete from orders where id in (:ids)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderMaintenanceLock orderMaintenanceLock;
+    private final CacheManager cacheManager;
+    private final OrderSearchCacheEvictor orderSearchCacheEvictor;
+    private final OrderArchiveProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Executor orderMaintenanceExecutor;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Scheduled(initialDelayString = "${order.archive.interval:PT10M}", fixedDelayString = "${order.archive.interval:PT10M}")
+    public void scheduleArchive() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            orderMaintenanceExecutor.execute(() -> {
+                try {
+                    archive();
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            running.set(false);
+            log.warn("Order archive run could not be scheduled, retrying on next interval");
+        }
+    }
+
+    void archive() {
+        try (OrderMaintenanceLock.Lease lease = orderMaintenanceLock.tryAcquire(properties.getLockKey(), properties.getLockTtl())) {
+            if (lease == null) {
+                return;
+            }
+
+            Timer.Sample sample = Timer.start(meterRegistry);
+            try {
+                int archived = archiveAll(LocalDateTime.now(), lease::extend);
+                if (archived > 0) {
+                    log.info("Archived {} orders", archived);
+                }
+            } finally {
+                sample.stop(meterRegistry.timer("order.archive.duration"));
+            }
+        }
+    }
+
+    int archiveAll(LocalDateTime now) {
+        return archiveAll(now, () -> true);
+    }
+
+    private int archiveAll(LocalDateTime now, BooleanSupplier stillLocked) {
+        int total = 0;
+        for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+            if (!stillLocked.getAsBoolean()) {
+                log.warn("Order archive lock {} was lost, stopping after {} orders", properties.getLockKey(), total);
+                break;
+            }
+            int archived = archiveBatch(now);
+            total += archived;
+            if (archived < properties.getBatchSize()) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    int archiveBatch(LocalDateTime now) {
+        ArchivedBatch archived = transactionTemplate.execute(status -> {
+            List<Long> ids = selectCandidates(now);
+            if (ids.isEmpty()) {
+                return null;
+            }
+
+            MapSqlParameterSource params = new MapSqlParameterSource("ids", ids).addValue("archivedAt", now);
+            List<OrderStatus> statuses = jdbcTemplate.queryForList(SELECT_STATUSES, params, String.class).stream()
+                    .map(OrderStatus::valueOf)
+                    .toList();
+            List<Long> orderItemIds = jdbcTemplate.queryForList(SELECT_ITEMS, params, Long.class);
+            jdbcTemplate.update(ARCHIVE_ORDERS, params);
+            jdbcTemplate.update(ARCHIVE_ITEMS, params);
+            jdbcTemplate.update(DELETE_ITEMS, params);
+            jdbcTemplate.update(DELETE_ORDERS, params);
+            return new ArchivedBatch(ids, statuses, orderItemIds);
+        });
+        if (archived == null) {
+            return 0;
+        }
+
+        evictCached(archived);
+        meterRegistry.counter("order.archive.orders").increment(archived.getIds().size());
+        return archived.getIds().size();
+    }
+
+    private void evictCached(ArchivedBatch archived) {
+        try {
+            Cache orderCache = cacheManager.getCache("orderCache");
+            if (orderCache != null) {
+                archived.getIds().forEach(orderCache::evict);
+            }
+            orderSearchCacheEvictor.evict(archived.getStatuses(), archived.getOrderItemIds());
+        } catch (RuntimeException e) {
+            log.warn("Failed to evict {} archived orders from cache: {}", archived.getIds().size(), e.getMessage());
+        }
+    }
+
+    private List<Long> selectCandidates(LocalDateTime now) {
+        Set<Long> ids = new LinkedHashSet<>(jdbcTemplate.queryForList(SELECT_AGED, new MapSqlParameterSource()
+                .addValue("agedBefore", now.minus(properties.getRetention()))
+                .addValue("limit", properties.getBatchSize()), Long.class));
+
+        int remaining = properties.getBatchSize() - ids.size();
+        if (remaining > 0) {
+            ids.addAll(jdbcTemplate.queryForList(SELECT_DELETED, new MapSqlParameterSource()
+                    .addValue("deletedBefore", now.minus(properties.getDeletedGracePeriod()))
+                    .addValue("limit", remaining), Long.class));
+        }
+        return new ArrayList<>(ids);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class ArchivedBatch {
+        private final List<Long> ids;
+        private final List<OrderStatus> statuses;
+        private final List<Long> orderItemIds;
+    }
+}
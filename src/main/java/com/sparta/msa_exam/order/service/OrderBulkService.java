@@ -0,0 +1,72 @@
+package com.sparta.msa_exam.order.service;
+
+import com.sparta.msa_exam.order.cache.OrderSearchCacheEvictor;
+import com.sparta.msa_exam.order.config.OrderBulkProperties;
+import com.sparta.msa_exam.order.dto.BulkOrderResponseDto;
+import com.sparta.msa_exam.order.dto.OrderRequestDto;
+import com.sparta.msa_exam.order.entity.Order;
+import com.sparta.msa_exam.order.enums.OrderEventType;
+import com.sparta.msa_exam.order.enums.OrderStatus;
+import com.sparta.msa_exam.order.metrics.OrderMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderBulkService {
+
+    private final ProductReservationService productReservationService;
+    private final OrderEventOutbox orderEventOutbox;
+    private final OrderSearchCacheEvictor orderSearchCacheEvictor;
+    private final OrderBulkProperties properties;
+    private final OrderMetrics orderMetrics;
+
+    public BulkOrderResponseDto createOrders(List<OrderRequestDto> requestDtos, String userId) {
+        if (requestDtos == null || requestDtos.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At least one order is required.");
+        }
+        if (requestDtos.size() > properties.getMaxOrders()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At most " + properties.getMaxOrders() + " orders can be created at once.");
+        }
+
+        List<Long> productIds = new ArrayList<>();
+        List<Order> orders = new ArrayList<>(requestDtos.size());
+        for (OrderRequestDto requestDto : requestDtos) {
+            if (requestDto.getOrderItemIds() == null || requestDto.getOrderItemIds().isEmpty()) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Order must contain at least one item.");
+            }
+            productIds.addAll(requestDto.getOrderItemIds());
+            orders.add(Order.builder()
+                    .orderItemIds(new ArrayList<>(requestDto.getOrderItemIds()))
+                    .createdBy(userId)
+                    .status(OrderStatus.CREATED)
+                    .build());
+        }
+
+        StockReservation reservation = productReservationService.reserve(productIds);
+        try {
+            reservation.hold();
+            orderMetrics.record(OrderMetrics.DB_SAVE,
+                    () -> orderEventOutbox.saveAllAndRecord(orders, OrderEventType.ORDER_CREATED, properties.getChunkSize()));
+        } catch (RuntimeException e) {
+            log.error("Failed to store {} bulk orders, releasing reserved stock", orders.size(), e);
+            reservation.release();
+            throw e;
+        }
+        reservation.confirm();
+
+        orderSearchCacheEvictor.evict(List.of(OrderStatus.CREATED), new LinkedHashSet<>(productIds));
+
+        List<Long> orderIds = orders.stream().map(Order::getId).collect(Collectors.toList());
+        return new BulkOrderResponseDto(orderIds.size(), orderIds);
+    }
+}
@@ -0,0 +1,126 @@
+package com.sparta.msa_exam.order.service;
+
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.appinfo.InstanceInfo;
+import com.sparta.msa_exam.order.cache.OrderCacheBatch;
+import com.sparta.msa_exam.order.config.OrderCacheWarmupProperties;
+import com.sparta.msa_exam.order.dto.OrderCursor;
+import com.sparta.msa_exam.order.dto.OrderResponseDto;
+import com.sparta.msa_exam.order.repository.OrderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderCacheWarmupService implements ApplicationRunner {
+
+    private final OrderRepository orderRepository;
+    private final OrderCacheBatch orderCacheBatch;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final OrderCacheWarmupProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ObjectProvider<ApplicationInfoManager> applicationInfoManager;
+    private final Executor orderMaintenanceExecutor;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            if (properties.isEnabled()) {
+                warmUp("startup");
+                stringRedisTemplate.opsForValue().set(properties.getMarkerKey(), "1");
+            }
+        } catch (RuntimeException e) {
+            log.warn("Order cache warm-up failed, continuing startup: {}", e.getMessage());
+        } finally {
+            applicationInfoManager.ifAvailable(manager -> manager.setInstanceStatus(InstanceInfo.InstanceStatus.UP));
+        }
+    }
+
+    @Scheduled(initialDelayString = "${order.cache.warmup.redis-check-interval:PT30S}",
+            fixedDelayString = "${order.cache.warmup.redis-check-interval:PT30S}")
+    public void warmUpAfterRedisRestart() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        try {
+            if (Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(properties.getMarkerKey(), "1"))) {
+                log.info("Order cache warm-up marker is missing, Redis was restarted or flushed");
+                orderMaintenanceExecutor.execute(() -> warmUp("redis_restart"));
+            }
+        } catch (TaskRejectedException e) {
+            log.warn("Order cache warm-up could not be scheduled, retrying on next check");
+            stringRedisTemplate.delete(properties.getMarkerKey());
+        } catch (DataAccessException e) {
+            log.debug("Skipping order cache marker check: {}", e.getMessage());
+        }
+    }
+
+    void warmUp(String trigger) {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Counter entries = meterRegistry.counter("order.cache.warmup.entries", "trigger", trigger);
+        long batchIntervalNanos = properties.getBatchesPerSecond() > 0 ? TimeUnit.SECONDS.toNanos(1) / properties.getBatchesPerSecond() : 0;
+        long deadline = System.nanoTime() + properties.getTimeout().toNanos();
+        int loaded = 0;
+        try {
+            OrderCursor cursor = null;
+            while (loaded < properties.getMaxEntries() && System.nanoTime() < deadline) {
+                long batchStart = System.nanoTime();
+                int size = Math.min(properties.getBatchSize(), properties.getMaxEntries() - loaded);
+                List<OrderResponseDto> orders = orderRepository.findRecentOrders(cursor, size);
+                if (orders.isEmpty()) {
+                    break;
+                }
+
+                orderCacheBatch.putAllIfAbsent(orders);
+                loaded += orders.size();
+                entries.increment(orders.size());
+
+                if (orders.size() < size || !pace(batchStart, batchIntervalNanos)) {
+                    break;
+                }
+                cursor = OrderCursor.from(orders.get(orders.size() - 1));
+            }
+        } finally {
+            long elapsed = sample.stop(meterRegistry.timer("order.cache.warmup.duration", "trigger", trigger));
+            running.set(false);
+            log.info("Warmed {} orders into orderCache in {} ms ({})", loaded, TimeUnit.NANOSECONDS.toMillis(elapsed), trigger);
+        }
+    }
+
+    private boolean pace(long batchStart, long batchIntervalNanos) {
+        long remaining = batchIntervalNanos - (System.nanoTime() - batchStart);
+        if (remaining <= 0) {
+            return true;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(remaining);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.sparta.msa_exam.order.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.msa_exam.order.entity.Order;
+import com.sparta.msa_exam.order.entity.OrderOutbox;
+import com.sparta.msa_exam.order.enums.OrderEventType;
+import com.sparta.msa_exam.order.enums.OrderStatus;
+import com.sparta.msa_exam.order.repository.OrderOutboxRepository;
+import com.sparta.msa_exam.order.repository.OrderRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class OrderEventOutbox {
+
+    private final OrderRepository orderRepository;
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    @Transactional
+    public Order saveAndRecord(Order order, OrderEventType eventType) {
+        Order savedOrder = orderRepository.saveAndFlush(order);
+        orderOutboxRepository.save(toOutbox(savedOrder, eventType));
+        return savedOrder;
+    }
+
+    @Transactional
+    public Order transitionAndRecord(Long orderId, OrderStatus expected, OrderStatus status, OrderEventType eventType) {
+        if (orderRepository.transition(orderId, expected, status, LocalDateTime.now()) == 0) {
+            return null;
+        }
+        Order order = orderRepository.findById(orderId)
+                .orElseThrow(() -> new IllegalStateException("Order " + orderId + " disappeared after its status changed"));
+        orderOutboxRepository.save(toOutbox(order, eventType));
+        return order;
+    }
+
+    @Transactional
+    public List<Order> saveAllAndRecord(List<Order> orders, OrderEventType eventType, int chunkSize) {
+        for (int i = 0; i < orders.size(); i++) {
+            Order order = orders.get(i);
+            entityManager.persist(order);
+            entityManager.persist(toOutbox(order, eventType));
+
+            if ((i + 1) % chunkSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return orders;
+    }
+
+    private OrderOutbox toOutbox(Order order, OrderEventType eventType) {
+        return OrderOutbox.builder()
+                .orderId(order.getId())
+                .aggregateVersion(order.getVersion())
+                .eventType(eventType)
+                .payload(toPayload(order))
+                .build();
+    }
+
+    private String toPayload(Order order) {
+        try {
+            return objectMapper.writeValueAsString(OrderService.toResponseDto(order));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize order event for order ID " + order.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.sparta.msa_exam.order.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sparta.msa_exam.order.config.OrderExportProperties;
+import com.sparta.msa_exam.order.dto.OrderResponseDto;
+import com.sparta.msa_exam.order.dto.OrderSearchDto;
+import com.sparta.msa_exam.order.enums.OrderExportFormat;
+import com.sparta.msa_exam.order.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class OrderExportService {
+
+    private static final String CSV_HEADER = "orderId,status,createdAt,createdBy,updatedAt,updatedBy,orderItemIds";
+    private static final DateTimeFormatter CSV_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final OrderRepository orderRepository;
+    private final ObjectMapper objectMapper;
+    private final OrderExportProperties properties;
+
+    @Transactional(readOnly = true)
+    public void exportOrders(OrderSearchDto searchDto, String role, String userId, OrderExportFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        if (format == OrderExportFormat.CSV) {
+            writeCsv(searchDto, role, userId, writer);
+        } else {
+            writeNdjson(searchDto, role, userId, writer);
+        }
+        writer.flush();
+    }
+
+    private void writeNdjson(OrderSearchDto searchDto, String role, String userId, Writer writer) throws IOException {
+        ObjectWriter objectWriter = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("\n");
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            orderRepository.exportOrders(searchDto, role, userId, properties.getFetchSize(), order -> {
+                try {
+                    objectWriter.writeValue(generator, order);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            if (generator.getOutputContext().getEntryCount() > 0) {
+                generator.writeRaw('\n');
+            }
+        }
+    }
+
+    private void writeCsv(OrderSearchDto searchDto, String role, String userId, Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        orderRepository.exportOrders(searchDto, role, userId, properties.getFetchSize(), order -> {
+            try {
+                writer.write(toCsvLine(order));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private String toCsvLine(OrderResponseDto order) {
+        return order.getOrderId() + "," +
+                order.getStatus() + "," +
+                (order.getCreatedAt() != null ? CSV_DATE_FORMAT.format(order.getCreatedAt()) : "") + "," +
+                escapeCsv(order.getCreatedBy()) + "," +
+                (order.getUpdatedAt() != null ? CSV_DATE_FORMAT.format(order.getUpdatedAt()) : "") + "," +
+                escapeCsv(order.getUpdatedBy()) + "," +
+                order.getOrderItemIds().stream().map(String::valueOf).collect(Collectors.joining(";")) + "\n";
+    }
+
+    private String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,79 @@
+package com.sparta.msa_exam.order.service;
+
+import com.sparta.msa_exam.order.cache.OrderCacheBatch;
+import com.sparta.msa_exam.order.config.OrderSearchProperties;
+import com.sparta.msa_exam.order.dto.OrderResponseDto;
+import com.sparta.msa_exam.order.metrics.OrderMetrics;
+import com.sparta.msa_exam.order.repository.OrderRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderLookupService {
+
+    private final OrderRepository orderRepository;
+    private final OrderCacheBatch orderCacheBatch;
+    private final OrderSearchProperties orderSearchProperties;
+    private final OrderMetrics orderMetrics;
+    private final MeterRegistry meterRegistry;
+
+    public List<OrderResponseDto> getOrdersByIds(List<Long> ids) {
+        Set<Long> orderIds = ids.stream().filter(Objects::nonNull).collect(Collectors.toCollection(LinkedHashSet::new));
+        if (orderIds.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At least one order id is required.");
+        }
+        if (orderIds.size() > orderSearchProperties.getMaxLookupIds()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At most " + orderSearchProperties.getMaxLookupIds() + " order ids can be requested at once.");
+        }
+
+        Map<Long, OrderResponseDto> found = new HashMap<>(readCached(orderIds));
+        Set<Long> misses = orderIds.stream()
+                .filter(orderId -> !found.containsKey(orderId))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        meterRegistry.counter("order.cache.batch", "result", "hit").increment(found.size());
+        meterRegistry.counter("order.cache.batch", "result", "miss").increment(misses.size());
+
+        if (!misses.isEmpty()) {
+            List<OrderResponseDto> loaded = orderMetrics.record(OrderMetrics.SEARCH_QUERY, () -> orderRepository.findOrdersByIds(misses));
+            loaded.forEach(order -> found.put(order.getOrderId(), order));
+            writeCached(loaded);
+        }
+
+        return orderIds.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private Map<Long, OrderResponseDto> readCached(Set<Long> orderIds) {
+        try {
+            return orderCacheBatch.getAll(orderIds);
+        } catch (DataAccessException e) {
+            log.warn("Order cache multi-get failed, reading {} orders from the database: {}", orderIds.size(), e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private void writeCached(List<OrderResponseDto> orders) {
+        try {
+            orderCacheBatch.putAllIfAbsent(orders);
+        } catch (DataAccessException e) {
+            log.warn("Order cache backfill failed for {} orders: {}", orders.size(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.sparta.msa_exam.order.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class OrderMaintenanceLock {
+
+    private static final RedisScript<Long> EXTEND = RedisScript.of(new ClassPathResource("scripts/lock-extend.lua"), Long.class);
+    private static final RedisScript<Long> RELEASE = RedisScript.of(new ClassPathResource("scripts/lock-release.lua"), Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public Lease tryAcquire(String key, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(key, token, ttl))) {
+            return null;
+        }
+        return new Lease(stringRedisTemplate, key, token, ttl);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Lease implements AutoCloseable {
+        private final StringRedisTemplate stringRedisTemplate;
+        private final String key;
+        private final String token;
+        private final Duration ttl;
+
+        public boolean extend() {
+            Long extended = stringRedisTemplate.execute(EXTEND, List.of(key), token, String.valueOf(ttl.toMillis()));
+            return extended != null && extended == 1;
+        }
+
+        @Override
+        public void close() {
+            stringRedisTemplate.execute(RELEASE, List.of(key), token);
+        }
+    }
+}
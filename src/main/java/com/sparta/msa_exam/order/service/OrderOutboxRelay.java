@@ -0,0 +1,75 @@
+package com.sparta.msa_exam.order.service;
+
+import com.sparta.msa_exam.order.config.OutboxProperties;
+import com.sparta.msa_exam.order.entity.OrderOutbox;
+import com.sparta.msa_exam.order.repository.OrderOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outbox ids come from a pooled sequence, so id order (and therefore stream order) is not
+ * commit order. Each record carries {@code version}, the order's version after the change;
+ * consumers order events per {@code orderId} by it and skip versions they already applied.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "order.outbox", name = "relay-enabled", havingValue = "true", matchIfMissing = true)
+public class OrderOutboxRelay {
+
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final OutboxProperties properties;
+
+    @Scheduled(fixedDelayString = "${order.outbox.flush-interval:PT1S}")
+    @Transactional
+    public void relay() {
+        List<OrderOutbox> batch = orderOutboxRepository.findUnpublished(PageRequest.of(0, properties.getBatchSize()));
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        XAddOptions options = XAddOptions.maxlen(properties.getStreamMaxLength()).approximateTrimming(true);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (OrderOutbox event : batch) {
+                stringConnection.xAdd(StreamRecords.string(Map.of(
+                        "eventId", String.valueOf(event.getId()),
+                        "type", event.getEventType().name(),
+                        "orderId", String.valueOf(event.getOrderId()),
+                        "version", String.valueOf(event.getAggregateVersion()),
+                        "occurredAt", event.getCreatedAt().toString(),
+                        "payload", event.getPayload()
+                )).withStreamKey(properties.getStreamKey()), options);
+            }
+            return null;
+        });
+
+        LocalDateTime publishedAt = LocalDateTime.now();
+        batch.forEach(event -> event.markPublished(publishedAt));
+        log.debug("Published {} order events to stream {}", batch.size(), properties.getStreamKey());
+    }
+
+    @Scheduled(fixedDelayString = "PT1H", initialDelayString = "PT1M")
+    @Transactional
+    public void purgePublished() {
+        int deleted = orderOutboxRepository.deletePublishedBefore(LocalDateTime.now().minus(properties.getRetention()));
+        if (deleted > 0) {
+            log.info("Purged {} published order events", deleted);
+        }
+    }
+}
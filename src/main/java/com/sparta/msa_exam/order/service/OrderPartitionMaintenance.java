@@ -0,0 +1,61 @@
+package com.sparta.msa_exam.order.service;
+
+import com.sparta.msa_exam.order.config.OrderArchiveProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "order.archive", name = "partition-maintenance-enabled", havingValue = "true")
+public class OrderPartitionMaintenance {
+
+    private static final DateTimeFormatter PARTITION_MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OrderMaintenanceLock orderMaintenanceLock;
+    private final OrderArchiveProperties properties;
+
+    @Scheduled(cron = "0 0 3 * * *")
+    public void addUpcomingPartitions() {
+        try (OrderMaintenanceLock.Lease lease = orderMaintenanceLock.tryAcquire(properties.getLockKey(), properties.getLockTtl())) {
+            if (lease == null) {
+                log.info("Order maintenance lock {} is held elsewhere, skipping partition maintenance", properties.getLockKey());
+                return;
+            }
+            addUpcomingPartitions(YearMonth.now().plusMonths(properties.getPartitionsAhead()));
+        }
+    }
+
+    void addUpcomingPartitions(YearMonth target) {
+        List<String> partitions = jdbcTemplate.queryForList("select partition_name from information_schema.partitions "
+                + "where table_schema = database() and table_name = 'orders' and partition_name is not null", String.class);
+        if (!partitions.contains("pmax")) {
+            log.warn("orders is not range-partitioned by created_at, skipping partition maintenance");
+            return;
+        }
+
+        YearMonth highest = partitions.stream()
+                .filter(name -> name.matches("p\\d{6}"))
+                .map(name -> YearMonth.parse(name.substring(1), PARTITION_MONTH))
+                .max(YearMonth::compareTo)
+                .orElse(YearMonth.now().minusMonths(1));
+
+        while (highest.isBefore(target)) {
+            YearMonth month = highest.plusMonths(1);
+            jdbcTemplate.execute("alter table orders reorganize partition pmax into ("
+                    + "partition p" + month.format(PARTITION_MONTH) + " values less than ('" + month.plusMonths(1).atDay(1) + "'), "
+                    + "partition pmax values less than (maxvalue))");
+            log.info("Added orders partition p{}", month.format(PARTITION_MONTH));
+            highest = month;
+        }
+    }
+}
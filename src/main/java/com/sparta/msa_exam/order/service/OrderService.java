@@ -1,53 +1,48 @@
 package com.sparta.msa_exam.order.service;
 
-import com.sparta.msa_exam.order.client.ProductClient;
-import com.sparta.msa_exam.order.client.dto.ProductResponseDto;
+import com.sparta.msa_exam.order.cache.OrderSearchCacheEvictor;
+import com.sparta.msa_exam.order.dto.OrderCursor;
+import com.sparta.msa_exam.order.dto.OrderCursorPageDto;
 import com.sparta.msa_exam.order.dto.OrderRequestDto;
 import com.sparta.msa_exam.order.dto.OrderResponseDto;
 import com.sparta.msa_exam.order.dto.OrderSearchDto;
 import com.sparta.msa_exam.order.entity.Order;
+import com.sparta.msa_exam.order.enums.OrderEventType;
 import com.sparta.msa_exam.order.enums.OrderStatus;
 import com.sparta.msa_exam.order.exception.ProductServiceUnavailableException;
+import com.sparta.msa_exam.order.metrics.OrderMetrics;
 import com.sparta.msa_exam.order.repository.OrderRepository;
+import com.sparta.msa_exam.order.routing.ReplicationRoutingDataSource;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.List;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class OrderService {
 
     private final OrderRepository orderRepository;
-    private final ProductClient productClient;
+    private final ProductReservationService productReservationService;
+    private final OrderSearchCacheEvictor orderSearchCacheEvictor;
+    private final OrderEventOutbox orderEventOutbox;
+    private final OrderMetrics orderMetrics;
 
     @CachePut(cacheNames = "orderCache", key = "#result.orderId")
     public OrderResponseDto createOrder(OrderRequestDto requestDto, String userId) {
-        for (Long productId : requestDto.getOrderItemIds()) {
-            ProductResponseDto product = productClient.getProduct(productId);
-            if (product.getQuantity() < 1) {
-                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Product with ID " + productId + " is out of stock.");
-            }
-        }
-
-        for (Long productId : requestDto.getOrderItemIds()) {
-            try {
-                productClient.reduceProductQuantity(productId, 1);
-            } catch (Exception e) {
-                log.error("Failed to reduce product quantity for product ID {}: {}", productId, e.getMessage());
-                throw new ProductServiceUnavailableException("잠시 후에 주문 추가를 요청 해주세요.");
-            }
-        }
+        StockReservation reservation = productReservationService.reserve(requestDto.getOrderItemIds());
 
         Order order = Order.builder()
                 .orderItemIds(requestDto.getOrderItemIds())
@@ -55,7 +50,17 @@ public class OrderService {
                 .status(OrderStatus.CREATED)
                 .build();
 
-        Order savedOrder = orderRepository.save(order);
+        Order savedOrder;
+        try {
+            reservation.hold();
+            savedOrder = orderMetrics.record(OrderMetrics.DB_SAVE,
+                    () -> orderEventOutbox.saveAndRecord(order, OrderEventType.ORDER_CREATED));
+        } catch (RuntimeException e) {
+            reservation.release();
+            throw e;
+        }
+        reservation.confirm();
+        orderSearchCacheEvictor.evict(List.of(savedOrder.getStatus()), savedOrder.getOrderItemIds());
 
         return toResponseDto(savedOrder);
     }
@@ -77,46 +82,53 @@ public class OrderService {
     }
 
     @Cacheable(value = "orderSearchCache", keyGenerator = "customCacheKeyGenerator")
+    @Transactional(readOnly = true)
     public Page<OrderResponseDto> getOrders(OrderSearchDto searchDto, Pageable pageable, String role, String userId) {
+        if (orderSearchCacheEvictor.isRecentlyWritten(searchDto, pageable)) {
+            return ReplicationRoutingDataSource.onPrimary(() -> orderRepository.searchOrders(searchDto, pageable, role, userId));
+        }
         return orderRepository.searchOrders(searchDto, pageable, role, userId);
     }
 
-    @Cacheable(cacheNames = "orderCache", key = "#orderId")
+    @Transactional(readOnly = true)
+    public Slice<OrderResponseDto> getOrderSlice(OrderSearchDto searchDto, Pageable pageable, String role, String userId) {
+        return orderRepository.searchOrderSlice(searchDto, pageable, role, userId);
+    }
+
+    @Transactional(readOnly = true)
+    public OrderCursorPageDto getOrdersByCursor(OrderSearchDto searchDto, String cursor, int size, String role, String userId) {
+        return orderRepository.searchOrdersByCursor(searchDto, OrderCursor.decode(cursor), size, role, userId);
+    }
+
+    @Cacheable(cacheNames = "orderCache", key = "#orderId", sync = true)
+    @Transactional(readOnly = true)
     public OrderResponseDto getOrderById(Long orderId) {
-        Order order = findOrderById(orderId);
-        return toResponseDto(order);
+        return ReplicationRoutingDataSource.onPrimary(() -> toResponseDto(findOrderById(orderId)));
     }
 
-    @Caching(evict = {
-            @CacheEvict(cacheNames = "orderSearchCache", allEntries = true)
-    }, put = {
-            @CachePut(cacheNames = "orderCache", key = "args[0]")
-    })
+    @CachePut(cacheNames = "orderCache", key = "args[0]")
     @Transactional
     public OrderResponseDto updateOrder(Long orderId, Long productId, String userId) {
-        ProductResponseDto product = productClient.getProduct(productId);
-        if (product.getQuantity() < 1) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Product with ID " + productId + " is out of stock.");
-        }
+        productReservationService.reserveAdded(productId).settleWithTransaction();
 
         Order order = findOrderById(orderId);
         order.updateOrder(productId, userId);
-        Order updatedOrder = orderRepository.save(order);
+        Order updatedOrder = orderMetrics.record(OrderMetrics.DB_SAVE,
+                () -> orderEventOutbox.saveAndRecord(order, OrderEventType.ORDER_UPDATED));
+        orderSearchCacheEvictor.evict(List.of(updatedOrder.getStatus()), updatedOrder.getOrderItemIds());
         return toResponseDto(updatedOrder);
     }
 
-    @Caching(evict = {
-            @CacheEvict(cacheNames = "orderCache", key = "#orderId"),
-            @CacheEvict(cacheNames = "orderSearchCache", allEntries = true)
-    })
+    @CacheEvict(cacheNames = "orderCache", key = "#orderId")
     @Transactional
     public void deleteOrder(Long orderId, String deletedBy) {
         Order order = findOrderById(orderId);
         order.deleteOrder(deletedBy);
-        orderRepository.save(order);
+        orderMetrics.record(OrderMetrics.DB_SAVE, () -> orderEventOutbox.saveAndRecord(order, OrderEventType.ORDER_DELETED));
+        orderSearchCacheEvictor.evict(List.of(order.getStatus()), order.getOrderItemIds());
     }
 
-    private OrderResponseDto toResponseDto(Order order) {
+    static OrderResponseDto toResponseDto(Order order) {
         return new OrderResponseDto(
                 order.getId(),
                 order.getStatus().toString(),
@@ -0,0 +1,293 @@
+package com.sparta.msa_exam.order.service;
+
+import com.sparta.msa_exam.order.client.ProductClient;
+import com.sparta.msa_exam.order.client.ProductSnapshotCache;
+import com.sparta.msa_exam.order.client.dto.ProductQuantityRequestDto;
+import com.sparta.msa_exam.order.client.dto.ProductResponseDto;
+import com.sparta.msa_exam.order.config.ProductCallProperties;
+import com.sparta.msa_exam.order.enums.ProductCallMode;
+import com.sparta.msa_exam.order.exception.ProductServiceUnavailableException;
+import com.sparta.msa_exam.order.metrics.OrderMetrics;
+import com.sparta.msa_exam.order.stock.StockLedger;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductReservationService {
+
+    private static final int CONFIRM_ATTEMPTS = 3;
+
+    private final ProductClient productClient;
+    private final ProductSnapshotCache productSnapshotCache;
+    private final ProductCallProperties properties;
+    private final Executor productCallExecutor;
+    private final OrderMetrics orderMetrics;
+    private final StockLedger stockLedger;
+
+    public StockReservation reserve(List<Long> productIds) {
+        Map<Long, Integer> quantities = countQuantities(productIds);
+        if (properties.getMode() == ProductCallMode.LEDGER) {
+            return reserveInLedger(UUID.randomUUID().toString(), quantities);
+        }
+
+        reserveRemotely(quantities);
+        return StockReservation.of(() -> {
+        }, () -> compensate(new ArrayList<>(quantities.keySet()), quantities, productCallExecutor));
+    }
+
+    public StockReservation reserve(String reservationId, List<Long> productIds) {
+        Map<Long, Integer> quantities = countQuantities(productIds);
+        if (properties.getMode() == ProductCallMode.LEDGER) {
+            return reserveInLedger(reservationId, quantities);
+        }
+
+        Map<Long, Integer> reserved;
+        try {
+            reserved = stockLedger.findRecorded(reservationId);
+        } catch (DataAccessException e) {
+            log.error("Failed to look up recorded reservation {}: {}", reservationId, e.getMessage());
+            throw new ProductServiceUnavailableException("잠시 후에 주문 추가를 요청 해주세요.");
+        }
+
+        if (reserved.isEmpty()) {
+            reserveRemotely(quantities);
+            try {
+                stockLedger.record(reservationId, quantities);
+            } catch (DataAccessException e) {
+                log.error("Failed to record reservation {}: {}", reservationId, e.getMessage());
+                compensate(new ArrayList<>(quantities.keySet()), quantities, productCallExecutor);
+                throw new ProductServiceUnavailableException("잠시 후에 주문 추가를 요청 해주세요.");
+            }
+            reserved = quantities;
+        } else {
+            log.info("Reusing stock already reduced for reservation {}", reservationId);
+        }
+
+        Map<Long, Integer> recorded = reserved;
+        return StockReservation.of(() -> stockLedger.forget(reservationId), () -> {
+            compensate(new ArrayList<>(recorded.keySet()), recorded, productCallExecutor);
+            stockLedger.forget(reservationId);
+        });
+    }
+
+    public StockReservation reserveAdded(Long productId) {
+        if (properties.getMode() == ProductCallMode.LEDGER) {
+            return reserveInLedger(UUID.randomUUID().toString(), Map.of(productId, 1));
+        }
+
+        ProductResponseDto product = orderMetrics.record(OrderMetrics.PRODUCT_CHECK, () -> productSnapshotCache.getProduct(productId));
+        if (product.getQuantity() < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Product with ID " + productId + " is out of stock.");
+        }
+        return StockReservation.none();
+    }
+
+    private StockReservation reserveInLedger(String reservationId, Map<Long, Integer> quantities) {
+        try {
+            StockLedger.Result result = orderMetrics.record(OrderMetrics.STOCK_REDUCTION, () -> stockLedger.reserve(reservationId, quantities));
+            if (result.getStatus() == StockLedger.Status.MISSING) {
+                seedLedger(result.getProductIds());
+                result = orderMetrics.record(OrderMetrics.STOCK_REDUCTION, () -> stockLedger.reserve(reservationId, quantities));
+            }
+
+            switch (result.getStatus()) {
+                case RESERVED:
+                    return StockReservation.of(() -> holdInLedger(reservationId), () -> confirmInLedger(reservationId),
+                            () -> stockLedger.release(reservationId));
+                case INSUFFICIENT:
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Products with IDs " + result.getProductIds() + " are out of stock.");
+                default:
+                    log.error("Stock ledger is still missing product IDs {} after seeding", result.getProductIds());
+                    throw new ProductServiceUnavailableException("잠시 후에 주문 추가를 요청 해주세요.");
+            }
+        } catch (DataAccessException e) {
+            log.error("Stock ledger is unavailable for product IDs {}: {}", quantities.keySet(), e.getMessage());
+            throw new ProductServiceUnavailableException("잠시 후에 주문 추가를 요청 해주세요.");
+        }
+    }
+
+    private void holdInLedger(String reservationId) {
+        boolean held;
+        try {
+            held = stockLedger.hold(reservationId);
+        } catch (DataAccessException e) {
+            log.error("Failed to hold stock reservation {}: {}", reservationId, e.getMessage());
+            throw new ProductServiceUnavailableException("잠시 후에 주문 추가를 요청 해주세요.");
+        }
+        if (!held) {
+            log.warn("Stock reservation {} expired before its order was stored", reservationId);
+            throw new ProductServiceUnavailableException("잠시 후에 주문 추가를 요청 해주세요.");
+        }
+    }
+
+    private void confirmInLedger(String reservationId) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                if (!orderMetrics.record(OrderMetrics.STOCK_CONFIRM, () -> stockLedger.confirm(reservationId))) {
+                    log.error("Stock reservation {} was already settled when its order was confirmed", reservationId);
+                }
+                return;
+            } catch (DataAccessException e) {
+                if (attempt >= CONFIRM_ATTEMPTS) {
+                    log.error("Failed to confirm stock reservation {}, its stock stays held until confirmed manually: {}",
+                            reservationId, e.getMessage());
+                    return;
+                }
+                log.warn("Failed to confirm stock reservation {}, retrying: {}", reservationId, e.getMessage());
+            }
+        }
+    }
+
+    private void reserveRemotely(Map<Long, Integer> quantities) {
+        switch (properties.getMode()) {
+            case PARALLEL:
+                reserveIndividually(quantities, productCallExecutor);
+                break;
+            case SEQUENTIAL:
+                reserveIndividually(quantities, Runnable::run);
+                break;
+            default:
+                reserveInBatch(quantities);
+                break;
+        }
+    }
+
+    private void seedLedger(List<Long> productIds) {
+        List<ProductResponseDto> products = orderMetrics.record(OrderMetrics.PRODUCT_CHECK, () -> productClient.getProducts(productIds));
+
+        Map<Long, Integer> available = new LinkedHashMap<>();
+        for (ProductResponseDto product : products) {
+            available.put(product.getId(), product.getQuantity());
+        }
+        for (Long productId : productIds) {
+            if (!available.containsKey(productId)) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Product with ID " + productId + " not found.");
+            }
+        }
+        stockLedger.seed(available);
+    }
+
+    private void reserveInBatch(Map<Long, Integer> quantities) {
+        Map<Long, ProductResponseDto> products = orderMetrics.record(OrderMetrics.PRODUCT_CHECK,
+                () -> productSnapshotCache.getProducts(quantities.keySet()));
+
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            ProductResponseDto product = products.get(entry.getKey());
+            if (product == null) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Product with ID " + entry.getKey() + " not found.");
+            }
+            if (product.getQuantity() < entry.getValue()) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Product with ID " + entry.getKey() + " is out of stock.");
+            }
+        }
+
+        List<ProductQuantityRequestDto> reductions = quantities.entrySet().stream()
+                .map(entry -> new ProductQuantityRequestDto(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+
+        try {
+            orderMetrics.recordRunnable(OrderMetrics.STOCK_REDUCTION, () -> productClient.reduceProductQuantities(reductions));
+        } catch (Exception e) {
+            log.error("Failed to reduce product quantities for product IDs {}: {}", quantities.keySet(), e.getMessage());
+            throw new ProductServiceUnavailableException("잠시 후에 주문 추가를 요청 해주세요.");
+        }
+    }
+
+    private void reserveIndividually(Map<Long, Integer> quantities, Executor executor) {
+        Timer.Sample lookupSample = orderMetrics.start();
+        Map<Long, CompletableFuture<ProductResponseDto>> lookups = new LinkedHashMap<>();
+        for (Long productId : quantities.keySet()) {
+            lookups.put(productId, CompletableFuture.supplyAsync(() -> productSnapshotCache.getProduct(productId), executor));
+        }
+
+        List<Long> outOfStock = new ArrayList<>();
+        List<Long> unavailable = new ArrayList<>();
+        for (Map.Entry<Long, CompletableFuture<ProductResponseDto>> entry : lookups.entrySet()) {
+            try {
+                ProductResponseDto product = entry.getValue().join();
+                if (product.getQuantity() < quantities.get(entry.getKey())) {
+                    outOfStock.add(entry.getKey());
+                }
+            } catch (CompletionException e) {
+                log.error("Failed to get product for product ID {}: {}", entry.getKey(), e.getCause().getMessage());
+                unavailable.add(entry.getKey());
+            }
+        }
+
+        orderMetrics.stop(lookupSample, OrderMetrics.PRODUCT_CHECK, unavailable.isEmpty());
+
+        if (!unavailable.isEmpty()) {
+            throw new ProductServiceUnavailableException("잠시 후에 주문 추가를 요청 해주세요.");
+        }
+        if (!outOfStock.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Products with IDs " + outOfStock + " are out of stock.");
+        }
+
+        Timer.Sample reductionSample = orderMetrics.start();
+        Map<Long, CompletableFuture<Void>> reductions = new LinkedHashMap<>();
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            reductions.put(entry.getKey(), CompletableFuture.runAsync(
+                    () -> productClient.reduceProductQuantity(entry.getKey(), entry.getValue()), executor));
+        }
+
+        List<Long> reserved = new ArrayList<>();
+        List<Long> failed = new ArrayList<>();
+        for (Map.Entry<Long, CompletableFuture<Void>> entry : reductions.entrySet()) {
+            try {
+                entry.getValue().join();
+                reserved.add(entry.getKey());
+            } catch (CompletionException e) {
+                log.error("Failed to reduce product quantity for product ID {}: {}", entry.getKey(), e.getCause().getMessage());
+                failed.add(entry.getKey());
+            }
+        }
+
+        orderMetrics.stop(reductionSample, OrderMetrics.STOCK_REDUCTION, failed.isEmpty());
+
+        if (!failed.isEmpty()) {
+            compensate(reserved, quantities, executor);
+            throw new ProductServiceUnavailableException("잠시 후에 주문 추가를 요청 해주세요.");
+        }
+    }
+
+    private void compensate(List<Long> reserved, Map<Long, Integer> quantities, Executor executor) {
+        Map<Long, CompletableFuture<Void>> releases = new LinkedHashMap<>();
+        for (Long productId : reserved) {
+            releases.put(productId, CompletableFuture.runAsync(
+                    () -> productClient.increaseProductQuantity(productId, quantities.get(productId)), executor));
+        }
+
+        for (Map.Entry<Long, CompletableFuture<Void>> entry : releases.entrySet()) {
+            try {
+                entry.getValue().join();
+            } catch (CompletionException e) {
+                log.error("Failed to release product quantity for product ID {}: {}", entry.getKey(), e.getCause().getMessage());
+            }
+        }
+    }
+
+    private Map<Long, Integer> countQuantities(List<Long> productIds) {
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        for (Long productId : productIds) {
+            quantities.merge(productId, 1, Integer::sum);
+        }
+        return quantities;
+    }
+}
@@ -0,0 +1,79 @@
+package com.sparta.msa_exam.order.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class StockReservation {
+
+    private static final Runnable NOTHING = () -> {
+    };
+
+    private final Runnable onHold;
+    private final Runnable onConfirm;
+    private final Runnable onRelease;
+    private final AtomicBoolean held = new AtomicBoolean();
+    private final AtomicBoolean settled = new AtomicBoolean();
+
+    private StockReservation(Runnable onHold, Runnable onConfirm, Runnable onRelease) {
+        this.onHold = onHold;
+        this.onConfirm = onConfirm;
+        this.onRelease = onRelease;
+    }
+
+    public static StockReservation of(Runnable onConfirm, Runnable onRelease) {
+        return new StockReservation(NOTHING, onConfirm, onRelease);
+    }
+
+    public static StockReservation of(Runnable onHold, Runnable onConfirm, Runnable onRelease) {
+        return new StockReservation(onHold, onConfirm, onRelease);
+    }
+
+    public static StockReservation none() {
+        return new StockReservation(NOTHING, NOTHING, NOTHING);
+    }
+
+    public void hold() {
+        if (settled.get() || held.get()) {
+            return;
+        }
+        onHold.run();
+        held.set(true);
+    }
+
+    public void confirm() {
+        if (settled.compareAndSet(false, true)) {
+            onConfirm.run();
+        }
+    }
+
+    public void release() {
+        if (settled.compareAndSet(false, true)) {
+            onRelease.run();
+        }
+    }
+
+    public void settleWithTransaction() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            hold();
+            confirm();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                hold();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    confirm();
+                } else {
+                    release();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,206 @@
+package com.sparta.msa_exam.order.stock;
+
+import com.sparta.msa_exam.order.config.StockLedgerProperties;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class StockLedger {
+
+    private static final String KEY_PREFIX = "{order-stock}:";
+    static final String AVAILABLE_PREFIX = KEY_PREFIX + "available:";
+    private static final String RESERVATION_PREFIX = KEY_PREFIX + "reservation:";
+    private static final String EXPIRY_KEY = KEY_PREFIX + "expiry";
+    private static final String PENDING_KEY = KEY_PREFIX + "pending";
+    private static final String PROCESSING_KEY = KEY_PREFIX + "processing";
+    private static final String PROCESSING_LEASE_KEY = KEY_PREFIX + "processing:lease";
+    private static final String PARKED_KEY = KEY_PREFIX + "parked";
+    private static final String RECORD_PREFIX = KEY_PREFIX + "record:";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> RESERVE = RedisScript.of(new ClassPathResource("scripts/stock-reserve.lua"), List.class);
+    private static final RedisScript<Long> HOLD = RedisScript.of(new ClassPathResource("scripts/stock-hold.lua"), Long.class);
+    private static final RedisScript<Long> CONFIRM = RedisScript.of(new ClassPathResource("scripts/stock-confirm.lua"), Long.class);
+    private static final RedisScript<Long> RELEASE = RedisScript.of(new ClassPathResource("scripts/stock-release.lua"), Long.class);
+    private static final RedisScript<Long> SEED = RedisScript.of(new ClassPathResource("scripts/stock-seed.lua"), Long.class);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> DRAIN = RedisScript.of(new ClassPathResource("scripts/stock-drain.lua"), List.class);
+    private static final RedisScript<Long> SETTLE = RedisScript.of(new ClassPathResource("scripts/stock-settle.lua"), Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final StockLedgerProperties properties;
+
+    public Result reserve(String reservationId, Map<Long, Integer> quantities) {
+        List<String> keys = new ArrayList<>();
+        keys.add(RESERVATION_PREFIX + reservationId);
+        keys.add(EXPIRY_KEY);
+        List<String> args = new ArrayList<>();
+        args.add(reservationId);
+        args.add(String.valueOf(System.currentTimeMillis() + properties.getReservationTtl().toMillis()));
+        args.add(String.valueOf(properties.getStockTtl().toMillis()));
+        quantities.forEach((productId, quantity) -> {
+            keys.add(AVAILABLE_PREFIX + productId);
+            args.add(String.valueOf(productId));
+            args.add(String.valueOf(quantity));
+        });
+
+        List<?> reply = stringRedisTemplate.execute(RESERVE, keys, args.toArray());
+        return Result.of(reply);
+    }
+
+    public void seed(Map<Long, Integer> available) {
+        List<String> keys = new ArrayList<>();
+        keys.add(PENDING_KEY);
+        keys.add(PROCESSING_KEY);
+        keys.add(PARKED_KEY);
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(properties.getStockTtl().toMillis()));
+        available.forEach((productId, quantity) -> {
+            keys.add(AVAILABLE_PREFIX + productId);
+            args.add(String.valueOf(productId));
+            args.add(String.valueOf(quantity));
+        });
+
+        stringRedisTemplate.execute(SEED, keys, args.toArray());
+    }
+
+    public boolean hold(String reservationId) {
+        Long held = stringRedisTemplate.execute(HOLD, List.of(RESERVATION_PREFIX + reservationId, EXPIRY_KEY), reservationId);
+        return held != null && held == 1;
+    }
+
+    public boolean confirm(String reservationId) {
+        Long confirmed = stringRedisTemplate.execute(CONFIRM, List.of(RESERVATION_PREFIX + reservationId, EXPIRY_KEY, PENDING_KEY), reservationId);
+        return confirmed != null && confirmed == 1;
+    }
+
+    public boolean release(String reservationId) {
+        Long released = stringRedisTemplate.execute(RELEASE, List.of(RESERVATION_PREFIX + reservationId, EXPIRY_KEY), reservationId, AVAILABLE_PREFIX);
+        return released != null && released == 1;
+    }
+
+    public boolean releaseExpired(String reservationId, long now) {
+        Long released = stringRedisTemplate.execute(RELEASE, List.of(RESERVATION_PREFIX + reservationId, EXPIRY_KEY),
+                reservationId, AVAILABLE_PREFIX, String.valueOf(now));
+        return released != null && released == 1;
+    }
+
+    public Set<String> findExpired(long now, int limit) {
+        Set<String> expired = stringRedisTemplate.opsForZSet().rangeByScore(EXPIRY_KEY, 0, now, 0, limit);
+        return expired != null ? expired : Set.of();
+    }
+
+    public SyncBatch drainPending() {
+        String token = UUID.randomUUID().toString();
+        List<?> items = stringRedisTemplate.execute(DRAIN, List.of(PENDING_KEY, PROCESSING_KEY, PROCESSING_LEASE_KEY),
+                token, String.valueOf(properties.getSyncLeaseTtl().toMillis()));
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        if (items != null) {
+            for (int i = 0; i + 1 < items.size(); i += 2) {
+                quantities.put(Long.valueOf(String.valueOf(items.get(i))), Integer.valueOf(String.valueOf(items.get(i + 1))));
+            }
+        }
+        return new SyncBatch(token, quantities);
+    }
+
+    public boolean ack(SyncBatch batch) {
+        return settle(batch, "ack");
+    }
+
+    public boolean park(SyncBatch batch) {
+        return settle(batch, "park");
+    }
+
+    public boolean retry(SyncBatch batch) {
+        return settle(batch, "retry");
+    }
+
+    private boolean settle(SyncBatch batch, String outcome) {
+        Long settled = stringRedisTemplate.execute(SETTLE, List.of(PROCESSING_KEY, PROCESSING_LEASE_KEY, PARKED_KEY), batch.getToken(), outcome);
+        return settled != null && settled == 1;
+    }
+
+    Map<Long, Integer> parked() {
+        Map<Long, Integer> parked = new LinkedHashMap<>();
+        stringRedisTemplate.opsForHash().entries(PARKED_KEY)
+                .forEach((productId, quantity) -> parked.put(Long.valueOf(String.valueOf(productId)), Integer.valueOf(String.valueOf(quantity))));
+        return parked;
+    }
+
+    public void record(String reservationId, Map<Long, Integer> quantities) {
+        String key = RECORD_PREFIX + reservationId;
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            quantities.forEach((productId, quantity) -> stringConnection.hSet(key, String.valueOf(productId), String.valueOf(quantity)));
+            stringConnection.pExpire(key, properties.getRecordTtl().toMillis());
+            return null;
+        });
+    }
+
+    public Map<Long, Integer> findRecorded(String reservationId) {
+        Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(RECORD_PREFIX + reservationId);
+        Map<Long, Integer> recorded = new LinkedHashMap<>();
+        entries.forEach((productId, quantity) -> recorded.put(Long.valueOf(String.valueOf(productId)), Integer.valueOf(String.valueOf(quantity))));
+        return recorded;
+    }
+
+    public void forget(String reservationId) {
+        stringRedisTemplate.delete(RECORD_PREFIX + reservationId);
+    }
+
+    Integer available(Long productId) {
+        String value = stringRedisTemplate.opsForValue().get(AVAILABLE_PREFIX + productId);
+        return value != null ? Integer.valueOf(value) : null;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class SyncBatch {
+        private final String token;
+        private final Map<Long, Integer> quantities;
+
+        public boolean isEmpty() {
+            return quantities.isEmpty();
+        }
+    }
+
+    public enum Status {
+        RESERVED, INSUFFICIENT, MISSING
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Result {
+        private final Status status;
+        private final List<Long> productIds;
+
+        static Result of(List<?> reply) {
+            if (reply == null || reply.isEmpty()) {
+                throw new IllegalStateException("Stock reservation script returned no result");
+            }
+            List<Long> productIds = reply.subList(1, reply.size()).stream()
+                    .map(value -> Long.valueOf(String.valueOf(value)))
+                    .collect(Collectors.toList());
+            return switch (String.valueOf(reply.get(0))) {
+                case "1" -> new Result(Status.RESERVED, productIds);
+                case "0" -> new Result(Status.INSUFFICIENT, productIds);
+                default -> new Result(Status.MISSING, productIds);
+            };
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.sparta.msa_exam.order.stock;
+
+import com.sparta.msa_exam.order.client.ProductClient;
+import com.sparta.msa_exam.order.client.dto.ProductQuantityRequestDto;
+import com.sparta.msa_exam.order.config.StockLedgerProperties;
+import feign.FeignException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "order.product-call", name = "mode", havingValue = "ledger")
+public class StockLedgerSync {
+
+    private final StockLedger stockLedger;
+    private final ProductClient productClient;
+    private final StockLedgerProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Scheduled(fixedDelayString = "${order.stock-ledger.sync-interval:PT1S}")
+    public void syncConfirmed() {
+        StockLedger.SyncBatch batch = stockLedger.drainPending();
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<ProductQuantityRequestDto> reductions = batch.getQuantities().entrySet().stream()
+                .map(entry -> new ProductQuantityRequestDto(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+        try {
+            productClient.reduceProductQuantities(reductions);
+        } catch (FeignException.FeignClientException e) {
+            if (e.status() == HttpStatus.REQUEST_TIMEOUT.value() || e.status() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+                retryLater(batch, reductions, e);
+                return;
+            }
+            log.error("product-service rejected {} confirmed stock reductions with status {}, parking them: {}",
+                    reductions.size(), e.status(), batch.getQuantities());
+            stockLedger.park(batch);
+            meterRegistry.counter("order.stock.ledger.parked").increment(reductions.size());
+            return;
+        } catch (RuntimeException e) {
+            retryLater(batch, reductions, e);
+            return;
+        }
+
+        if (!stockLedger.ack(batch)) {
+            log.warn("Sync lease expired before {} stock reductions were acknowledged, they may be sent again", reductions.size());
+        }
+        meterRegistry.counter("order.stock.ledger.synced").increment(reductions.size());
+    }
+
+    private void retryLater(StockLedger.SyncBatch batch, List<ProductQuantityRequestDto> reductions, RuntimeException e) {
+        log.warn("Failed to sync {} confirmed stock reductions to product-service, retrying later: {}", reductions.size(), e.getMessage());
+        stockLedger.retry(batch);
+    }
+
+    @Scheduled(fixedDelayString = "${order.stock-ledger.sweep-interval:PT5S}")
+    public void releaseExpired() {
+        long now = System.currentTimeMillis();
+        Set<String> expired = stockLedger.findExpired(now, properties.getSweepBatchSize());
+        int released = 0;
+        for (String reservationId : expired) {
+            if (stockLedger.releaseExpired(reservationId, now)) {
+                released++;
+            }
+        }
+        if (released > 0) {
+            meterRegistry.counter("order.stock.ledger.expired").increment(released);
+            log.info("Released {} expired stock reservations", released);
+        }
+    }
+}
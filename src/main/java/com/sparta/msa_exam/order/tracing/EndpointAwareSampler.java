@@ -0,0 +1,87 @@
+package com.sparta.msa_exam.order.tracing;
+
+import brave.sampler.RateLimitingSampler;
+import brave.sampler.Sampler;
+import com.sparta.msa_exam.order.config.TraceSamplingProperties;
+import com.sparta.msa_exam.order.enums.TraceSamplingMode;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class EndpointAwareSampler extends Sampler {
+
+    private static final ThreadLocal<String> CURRENT_PATH = new ThreadLocal<>();
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final List<Bucket> rules = new ArrayList<>();
+    private final Bucket defaultBucket;
+    private final TraceSamplingProperties.Boost boost;
+
+    public EndpointAwareSampler(TraceSamplingProperties properties) {
+        this.boost = properties.getBoost();
+        Sampler defaultSampler = properties.getMode() == TraceSamplingMode.RATE_LIMITED
+                ? RateLimitingSampler.create(properties.getTracesPerSecond())
+                : Sampler.create(properties.getProbability());
+        this.defaultBucket = new Bucket(null, defaultSampler, boostSampler());
+
+        for (TraceSamplingProperties.Rule rule : properties.getRules()) {
+            rules.add(new Bucket(rule.getPattern(), Sampler.create(rule.getProbability()), boostSampler()));
+        }
+    }
+
+    public static void setCurrentPath(String path) {
+        CURRENT_PATH.set(path);
+    }
+
+    public static void clearCurrentPath() {
+        CURRENT_PATH.remove();
+    }
+
+    @Override
+    public boolean isSampled(long traceId) {
+        Bucket bucket = bucketFor(CURRENT_PATH.get());
+        if (bucket.sampler.isSampled(traceId)) {
+            return true;
+        }
+        return bucket.boostedUntil - System.nanoTime() > 0 && bucket.boostSampler.isSampled(traceId);
+    }
+
+    public void boost(String path) {
+        if (boost.isEnabled()) {
+            bucketFor(path).boostedUntil = System.nanoTime() + boost.getWindow().toNanos();
+        }
+    }
+
+    public boolean isSlow(long elapsedNanos) {
+        return elapsedNanos > boost.getSlowThreshold().toNanos();
+    }
+
+    private Bucket bucketFor(String path) {
+        if (path != null) {
+            for (Bucket rule : rules) {
+                if (pathMatcher.match(rule.pattern, path)) {
+                    return rule;
+                }
+            }
+        }
+        return defaultBucket;
+    }
+
+    private Sampler boostSampler() {
+        return boost.isEnabled() ? RateLimitingSampler.create(boost.getTracesPerSecond()) : Sampler.NEVER_SAMPLE;
+    }
+
+    private static class Bucket {
+        private final String pattern;
+        private final Sampler sampler;
+        private final Sampler boostSampler;
+        private volatile long boostedUntil = System.nanoTime();
+
+        private Bucket(String pattern, Sampler sampler, Sampler boostSampler) {
+            this.pattern = pattern;
+            this.sampler = sampler;
+            this.boostSampler = boostSampler;
+        }
+    }
+}
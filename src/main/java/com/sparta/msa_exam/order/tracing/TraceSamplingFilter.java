@@ -0,0 +1,34 @@
+package com.sparta.msa_exam.order.tracing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+@RequiredArgsConstructor
+public class TraceSamplingFilter extends OncePerRequestFilter {
+
+    private final EndpointAwareSampler sampler;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        EndpointAwareSampler.setCurrentPath(path);
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = response.getStatus() >= 500;
+        } finally {
+            EndpointAwareSampler.clearCurrentPath();
+            if (failed || sampler.isSlow(System.nanoTime() - start)) {
+                sampler.boost(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+-- Range-partitions orders by month of created_at (MySQL 8). Run once during a maintenance
+-- window, after orders-sequences.sql.
+-- MySQL requires every unique key of a partitioned table to contain the partitioning
+-- column, so the primary key becomes (id, created_at). Ids still come from orders_seq and
+-- stay unique; the entity keeps mapping id alone as its identifier.
+-- Queries bounded on created_at are pruned to the partitions they need: the archive age
+-- scan (created_at < :agedBefore) and the /cursor keyset (created_at, id) < cursor.
+-- findById, claim, the batch id lookup and the archive deletes filter on id only and
+-- cannot be pruned. They use the id prefix of the primary key, one index dive per
+-- partition; with the archive retention (180d) that is about seven monthly partitions,
+-- and orderCache absorbs most single-order reads. Unbounded searches and counts visit
+-- every partition, which retention keeps to a bounded size.
+-- MySQL does not allow foreign keys on partitioned tables, so the
+-- order_items -> orders foreign key is dropped.
+-- Partitions are generated from the oldest order's month up to @partitions_ahead months
+-- past the current one, then pmax. OrderPartitionMaintenance splits further months off
+-- pmax; keep @partitions_ahead in line with order.archive.partitions-ahead.
+
+SET @partitions_ahead := 3;
+SET SESSION group_concat_max_len := 65536;
+
+SET @fk := (SELECT constraint_name
+            FROM information_schema.referential_constraints
+            WHERE constraint_schema = DATABASE()
+              AND table_name = 'order_items'
+              AND referenced_table_name = 'orders'
+            LIMIT 1);
+SET @drop_fk := IF(@fk IS NULL, 'SELECT 1', CONCAT('ALTER TABLE order_items DROP FOREIGN KEY ', @fk));
+PREPARE stmt FROM @drop_fk;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+UPDATE orders SET created_at = COALESCE(updated_at, NOW(6)) WHERE created_at IS NULL;
+ALTER TABLE orders
+    MODIFY created_at DATETIME(6) NOT NULL,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, created_at);
+
+SET @first_month := (SELECT CAST(DATE_FORMAT(COALESCE(MIN(created_at), NOW()), '%Y-%m-01') AS DATE) FROM orders);
+SET @last_month := CAST(DATE_FORMAT(NOW() + INTERVAL @partitions_ahead MONTH, '%Y-%m-01') AS DATE);
+SET @partitions := (
+    WITH RECURSIVE months (month_start) AS (
+        SELECT @first_month
+        UNION ALL
+        SELECT month_start + INTERVAL 1 MONTH FROM months WHERE month_start < @last_month
+    )
+    SELECT GROUP_CONCAT(CONCAT('PARTITION p', DATE_FORMAT(month_start, '%Y%m'),
+                               ' VALUES LESS THAN (''', month_start + INTERVAL 1 MONTH, ''')')
+                        ORDER BY month_start SEPARATOR ', ')
+    FROM months
+);
+SET @partition_orders := CONCAT('ALTER TABLE orders PARTITION BY RANGE COLUMNS (created_at) (', @partitions,
+                                ', PARTITION pmax VALUES LESS THAN (MAXVALUE))');
+PREPARE stmt FROM @partition_orders;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
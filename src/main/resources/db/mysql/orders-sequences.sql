@@ -0,0 +1,22 @@
+-- Switches orders and order_outbox ids from AUTO_INCREMENT to Hibernate sequences (MySQL 8).
+-- MySQL has no native sequences, so Hibernate emulates orders_seq and order_outbox_seq
+-- with single-row tables. With allocationSize 50 the pooled optimizer hands out
+-- (next_val - 49 .. next_val) for each fetch, so next_val is seeded at max(id) + 50.
+-- Run after the last instance using AUTO_INCREMENT ids has stopped writing and
+-- before the first instance using sequence ids starts.
+
+CREATE TABLE IF NOT EXISTS orders_seq (
+    next_val BIGINT NOT NULL
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS order_outbox_seq (
+    next_val BIGINT NOT NULL
+) ENGINE = InnoDB;
+
+DELETE FROM orders_seq;
+INSERT INTO orders_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 50 FROM orders;
+
+DELETE FROM order_outbox_seq;
+INSERT INTO order_outbox_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 50 FROM order_outbox;
@@ -0,0 +1,9 @@
+-- Adds the per-order version used for optimistic locking and event ordering (MySQL 8).
+-- Outbox ids come from order_outbox_seq with allocationSize 50, so every instance writes
+-- from its own block of ids and a lower id can commit after a higher one. The relay
+-- publishes in id order, which is therefore not commit order. order_outbox.aggregate_version
+-- records orders.version after each change; consumers of the order event stream order
+-- events per order_id by that version and skip versions they have already applied.
+
+ALTER TABLE orders ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE order_outbox ADD COLUMN aggregate_version BIGINT NULL;
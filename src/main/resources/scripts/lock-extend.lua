@@ -0,0 +1,6 @@
+-- KEYS[1] lock key
+-- ARGV[1] owner token, ARGV[2] ttl millis
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+end
+return 0
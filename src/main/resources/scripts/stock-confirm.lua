@@ -0,0 +1,13 @@
+-- KEYS[1] reservation hash, KEYS[2] expiry zset, KEYS[3] pending sync hash
+-- ARGV[1] reservation id
+local items = redis.call('HGETALL', KEYS[1])
+if #items == 0 then
+    return 0
+end
+
+for i = 1, #items, 2 do
+    redis.call('HINCRBY', KEYS[3], items[i], items[i + 1])
+end
+redis.call('DEL', KEYS[1])
+redis.call('ZREM', KEYS[2], ARGV[1])
+return 1
@@ -0,0 +1,15 @@
+-- KEYS[1] pending sync hash, KEYS[2] processing hash, KEYS[3] processing lease
+-- ARGV[1] lease token, ARGV[2] lease ttl millis
+-- A batch left in processing by a failed or crashed sync is handed out again
+-- before any newer pending reductions.
+if not redis.call('SET', KEYS[3], ARGV[1], 'PX', ARGV[2], 'NX') then
+    return {}
+end
+if redis.call('EXISTS', KEYS[2]) == 0 then
+    if redis.call('EXISTS', KEYS[1]) == 0 then
+        redis.call('DEL', KEYS[3])
+        return {}
+    end
+    redis.call('RENAME', KEYS[1], KEYS[2])
+end
+return redis.call('HGETALL', KEYS[2])
@@ -0,0 +1,8 @@
+-- KEYS[1] reservation hash, KEYS[2] expiry zset
+-- ARGV[1] reservation id
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return 0
+end
+
+redis.call('ZREM', KEYS[2], ARGV[1])
+return 1
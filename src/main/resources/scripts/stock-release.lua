@@ -0,0 +1,24 @@
+-- KEYS[1] reservation hash, KEYS[2] expiry zset
+-- ARGV[1] reservation id, ARGV[2] available stock key prefix,
+-- ARGV[3] optional millis; when given only a reservation that expired by then is released
+if ARGV[3] then
+    local expireAt = redis.call('ZSCORE', KEYS[2], ARGV[1])
+    if not expireAt or tonumber(expireAt) > tonumber(ARGV[3]) then
+        return 0
+    end
+end
+
+local items = redis.call('HGETALL', KEYS[1])
+redis.call('ZREM', KEYS[2], ARGV[1])
+if #items == 0 then
+    return 0
+end
+
+for i = 1, #items, 2 do
+    local key = ARGV[2] .. items[i]
+    if redis.call('EXISTS', key) == 1 then
+        redis.call('INCRBY', key, items[i + 1])
+    end
+end
+redis.call('DEL', KEYS[1])
+return 1
@@ -0,0 +1,35 @@
+-- KEYS[1] reservation hash, KEYS[2] expiry zset, KEYS[3..] available stock per product
+-- ARGV[1] reservation id, ARGV[2] expire-at millis, ARGV[3] stock ttl millis,
+-- ARGV[2 + 2i] product id and ARGV[3 + 2i] quantity for KEYS[2 + i]
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    return {'1'}
+end
+
+local count = #KEYS - 2
+local missing = {'-1'}
+for i = 1, count do
+    if redis.call('EXISTS', KEYS[i + 2]) == 0 then
+        table.insert(missing, ARGV[2 + 2 * i])
+    end
+end
+if #missing > 1 then
+    return missing
+end
+
+local insufficient = {'0'}
+for i = 1, count do
+    if tonumber(redis.call('GET', KEYS[i + 2])) < tonumber(ARGV[3 + 2 * i]) then
+        table.insert(insufficient, ARGV[2 + 2 * i])
+    end
+end
+if #insufficient > 1 then
+    return insufficient
+end
+
+for i = 1, count do
+    redis.call('DECRBY', KEYS[i + 2], ARGV[3 + 2 * i])
+    redis.call('PEXPIRE', KEYS[i + 2], ARGV[3])
+    redis.call('HSET', KEYS[1], ARGV[2 + 2 * i], ARGV[3 + 2 * i])
+end
+redis.call('ZADD', KEYS[2], ARGV[2], ARGV[1])
+return {'1'}
@@ -0,0 +1,13 @@
+-- KEYS[1] pending sync hash, KEYS[2] processing hash, KEYS[3] parked hash,
+-- KEYS[4..] available stock per product
+-- ARGV[1] stock ttl millis, ARGV[2i] product id and ARGV[2i + 1] quantity for KEYS[3 + i]
+-- Confirmed reductions product-service has not applied yet are subtracted from its quantity.
+for i = 1, #KEYS - 3 do
+    local unsynced = 0
+    for j = 1, 3 do
+        unsynced = unsynced + tonumber(redis.call('HGET', KEYS[j], ARGV[2 * i]) or '0')
+    end
+    local available = math.max(tonumber(ARGV[2 * i + 1]) - unsynced, 0)
+    redis.call('SET', KEYS[i + 3], available, 'PX', ARGV[1], 'NX')
+end
+return 1
@@ -0,0 +1,16 @@
+-- KEYS[1] processing hash, KEYS[2] processing lease, KEYS[3] parked hash
+-- ARGV[1] lease token, ARGV[2] outcome: ack, park or retry
+if redis.call('GET', KEYS[2]) ~= ARGV[1] then
+    return 0
+end
+if ARGV[2] == 'park' then
+    local items = redis.call('HGETALL', KEYS[1])
+    for i = 1, #items, 2 do
+        redis.call('HINCRBY', KEYS[3], items[i], items[i + 1])
+    end
+end
+if ARGV[2] ~= 'retry' then
+    redis.call('DEL', KEYS[1])
+end
+redis.call('DEL', KEYS[2])
+return 1
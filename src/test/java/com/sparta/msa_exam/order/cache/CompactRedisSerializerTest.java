@@ -0,0 +1,81 @@
+package com.sparta.msa_exam.order.cache;
+
+import com.sparta.msa_exam.order.config.CacheCodecProperties;
+import com.sparta.msa_exam.order.dto.OrderResponseDto;
+import com.sparta.msa_exam.order.enums.CacheCodecFormat;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompactRedisSerializerTest {
+
+    private final LocalDateTime now = LocalDateTime.of(2024, 5, 1, 12, 30, 15);
+
+    @Test
+    void roundTripsSmallOrderWithoutCompression() {
+        CompactRedisSerializer<OrderResponseDto> serializer = serializer(CacheCodecFormat.SMILE);
+        OrderResponseDto order = order(3);
+
+        byte[] payload = serializer.serialize(order);
+
+        assertThat(payload[0]).isEqualTo(CompactRedisSerializer.VERSION_1);
+        assertThat(payload[1] & CompactRedisSerializer.FLAG_DEFLATE).isZero();
+        assertThat(serializer.deserialize(payload)).usingRecursiveComparison().isEqualTo(order);
+    }
+
+    @Test
+    void compressesLargeOrders() {
+        CompactRedisSerializer<OrderResponseDto> serializer = serializer(CacheCodecFormat.SMILE);
+        OrderResponseDto order = order(500);
+
+        byte[] payload = serializer.serialize(order);
+
+        assertThat(payload[1] & CompactRedisSerializer.FLAG_DEFLATE).isNotZero();
+        assertThat(serializer.deserialize(payload)).usingRecursiveComparison().isEqualTo(order);
+    }
+
+    @Test
+    void payloadIsSmallerThanJson() {
+        OrderResponseDto order = order(10);
+
+        byte[] json = new Jackson2JsonRedisSerializer<>(OrderResponseDto.class).serialize(order);
+        byte[] compact = serializer(CacheCodecFormat.SMILE).serialize(order);
+
+        assertThat(compact.length).isLessThan(json.length * 2 / 3);
+    }
+
+    @Test
+    void readsLegacyJsonDuringRollingUpgrade() {
+        OrderResponseDto order = order(3);
+        byte[] legacy = new Jackson2JsonRedisSerializer<>(OrderResponseDto.class).serialize(order);
+
+        assertThat(serializer(CacheCodecFormat.SMILE).deserialize(legacy)).usingRecursiveComparison().isEqualTo(order);
+    }
+
+    @Test
+    void jsonFormatWritesPayloadLegacyReadersUnderstand() {
+        OrderResponseDto order = order(3);
+
+        byte[] payload = serializer(CacheCodecFormat.JSON).serialize(order);
+
+        assertThat(new Jackson2JsonRedisSerializer<>(OrderResponseDto.class).deserialize(payload))
+                .usingRecursiveComparison().isEqualTo(order);
+    }
+
+    private CompactRedisSerializer<OrderResponseDto> serializer(CacheCodecFormat format) {
+        CacheCodecProperties properties = new CacheCodecProperties();
+        properties.setFormat(format);
+        return new CompactRedisSerializer<>(OrderResponseDto.class, properties);
+    }
+
+    private OrderResponseDto order(int itemCount) {
+        List<Long> orderItemIds = LongStream.rangeClosed(1, itemCount).boxed().collect(Collectors.toList());
+        return new OrderResponseDto(123456L, "CREATED", now, "user-1", now.plusMinutes(5), "user-1", orderItemIds);
+    }
+}
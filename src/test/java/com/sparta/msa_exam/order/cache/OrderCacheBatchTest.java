@@ -0,0 +1,72 @@
+package com.sparta.msa_exam.order.cache;
+
+import com.sparta.msa_exam.order.config.CacheCodecProperties;
+import com.sparta.msa_exam.order.config.RedisConfig;
+import com.sparta.msa_exam.order.dto.OrderResponseDto;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.TestSocketUtils;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderCacheBatchTest {
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+
+    private RedisTemplate<String, OrderResponseDto> orderTemplate;
+    private OrderCacheBatch orderCacheBatch;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port = TestSocketUtils.findAvailableTcpPort();
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        orderTemplate = new RedisConfig().orderTemplate(connectionFactory, new CacheCodecProperties());
+        orderTemplate.afterPropertiesSet();
+        orderTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+        orderCacheBatch = new OrderCacheBatch(orderTemplate, new JitteredTtlFunction(Duration.ofMinutes(1), 0.1));
+    }
+
+    @Test
+    void putAllIfAbsentKeepsFresherEntries() {
+        orderTemplate.opsForValue().set("orderCache::1", order(1L, "SHIPPED"));
+
+        orderCacheBatch.putAllIfAbsent(List.of(order(1L, "CREATED"), order(2L, "CREATED")));
+
+        assertThat(orderCacheBatch.getAll(List.of(1L, 2L)))
+                .hasEntrySatisfying(1L, order -> assertThat(order.getStatus()).isEqualTo("SHIPPED"))
+                .hasEntrySatisfying(2L, order -> assertThat(order.getStatus()).isEqualTo("CREATED"));
+        assertThat(orderTemplate.getExpire("orderCache::2")).isPositive();
+    }
+
+    private OrderResponseDto order(Long orderId, String status) {
+        return new OrderResponseDto(orderId, status, null, "user", null, "user", List.of(orderId));
+    }
+}
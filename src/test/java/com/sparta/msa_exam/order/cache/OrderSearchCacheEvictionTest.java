@@ -0,0 +1,187 @@
+package com.sparta.msa_exam.order.cache;
+
+import com.sparta.msa_exam.order.config.CacheCodecProperties;
+import com.sparta.msa_exam.order.config.CacheConfig;
+import com.sparta.msa_exam.order.config.NearCacheProperties;
+import com.sparta.msa_exam.order.config.OrderCacheProperties;
+import com.sparta.msa_exam.order.config.OrderSearchProperties;
+import com.sparta.msa_exam.order.dto.OrderResponseDto;
+import com.sparta.msa_exam.order.dto.OrderSearchDto;
+import com.sparta.msa_exam.order.enums.OrderStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.TestSocketUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderSearchCacheEvictionTest {
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+
+    private StringRedisTemplate stringRedisTemplate;
+    private Cache searchCache;
+    private OrderSearchCacheEvictor evictor;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port = TestSocketUtils.findAvailableTcpPort();
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        stringRedisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+
+        NearCacheProperties nearCacheProperties = new NearCacheProperties();
+        nearCacheProperties.setEnabled(false);
+        CacheManager cacheManager = new CacheConfig().cacheManager(connectionFactory, stringRedisTemplate,
+                nearCacheProperties, null, new OrderSearchProperties(), new CacheCodecProperties(),
+                new OrderCacheProperties(), new SimpleMeterRegistry());
+
+        searchCache = cacheManager.getCache("orderSearchCache");
+        evictor = new OrderSearchCacheEvictor(cacheManager);
+    }
+
+    @Test
+    void orderUpdateDropsOnlyPagesItCanAppearOn() {
+        Map<String, OrderSearchCacheKey> pages = Map.of(
+                "unfiltered", key(null, List.of()),
+                "created", key(OrderStatus.CREATED, List.of()),
+                "paid", key(OrderStatus.PAID, List.of()),
+                "item5", key(null, List.of(5L, 9L)),
+                "item7", key(null, List.of(7L)),
+                "paidItem5", key(OrderStatus.PAID, List.of(5L)),
+                "createdItem7", key(OrderStatus.CREATED, List.of(7L))
+        );
+        pages.values().forEach(this::cachePage);
+
+        evictor.evict(List.of(OrderStatus.CREATED), List.of(5L, 6L));
+
+        assertThat(cachedPages(pages)).containsExactlyInAnyOrder("paid", "item7", "paidItem5", "createdItem7");
+    }
+
+    @Test
+    void statusTransitionDropsPagesForOldAndNewStatus() {
+        Map<String, OrderSearchCacheKey> pages = Map.of(
+                "created", key(OrderStatus.CREATED, List.of()),
+                "cancelled", key(OrderStatus.CANCELLED, List.of()),
+                "shipped", key(OrderStatus.SHIPPED, List.of())
+        );
+        pages.values().forEach(this::cachePage);
+
+        evictor.evict(List.of(OrderStatus.CREATED, OrderStatus.CANCELLED), List.of(1L));
+
+        assertThat(cachedPages(pages)).containsExactly("shipped");
+    }
+
+    @Test
+    void evictedPagesAreRemovedFromTagSets() {
+        OrderSearchCacheKey created = key(OrderStatus.CREATED, List.of());
+        cachePage(created);
+
+        evictor.evict(List.of(OrderStatus.CREATED), List.of(1L));
+
+        assertThat(stringRedisTemplate.opsForSet().members("orderSearchCache:tag:status:CREATED"))
+                .doesNotContain(created.toString());
+    }
+
+    @Test
+    void evictionInsideTransactionWaitsForCommit() {
+        OrderSearchCacheKey created = key(OrderStatus.CREATED, List.of());
+        cachePage(created);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            evictor.evict(List.of(OrderStatus.CREATED), List.of(1L));
+            assertThat(searchCache.get(created)).isNotNull();
+
+            TransactionSynchronizationUtils.triggerAfterCommit();
+            assertThat(searchCache.get(created)).isNull();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void trimDropsExpiredPagesFromTagSets() {
+        OrderSearchCacheKey live = key(OrderStatus.CREATED, List.of());
+        OrderSearchCacheKey expired = key(OrderStatus.CREATED, List.of(5L));
+        cachePage(live);
+        cachePage(expired);
+        stringRedisTemplate.delete("orderSearchCache::" + expired);
+
+        evictor.trimIndex();
+
+        assertThat(stringRedisTemplate.opsForSet().members("orderSearchCache:tag:status:CREATED"))
+                .containsExactly(live.toString());
+        assertThat(stringRedisTemplate.opsForSet().members("orderSearchCache:tag:item:5")).isNullOrEmpty();
+    }
+
+    @Test
+    void recentWritesAreSeenOnlyBySearchesTheyAffect() {
+        evictor.evict(List.of(OrderStatus.CREATED), List.of(5L));
+
+        assertThat(evictor.isRecentlyWritten(new OrderSearchDto(), PageRequest.of(0, 20))).isTrue();
+        assertThat(evictor.isRecentlyWritten(new OrderSearchDto(OrderStatus.CREATED, List.of(5L, 9L)), PageRequest.of(1, 20))).isTrue();
+        assertThat(evictor.isRecentlyWritten(new OrderSearchDto(OrderStatus.PAID, List.of()), PageRequest.of(0, 20))).isFalse();
+        assertThat(evictor.isRecentlyWritten(new OrderSearchDto(null, List.of(7L)), PageRequest.of(0, 20))).isFalse();
+    }
+
+    @Test
+    void clearDropsPagesAndTagSets() {
+        cachePage(key(null, List.of()));
+        cachePage(key(OrderStatus.PAID, List.of(5L)));
+
+        searchCache.clear();
+
+        assertThat(stringRedisTemplate.keys("orderSearchCache*")).isEmpty();
+    }
+
+    private void cachePage(OrderSearchCacheKey key) {
+        searchCache.put(key, new PageImpl<OrderResponseDto>(List.of(), PageRequest.of(0, 20), 0));
+    }
+
+    private List<String> cachedPages(Map<String, OrderSearchCacheKey> pages) {
+        return pages.entrySet().stream()
+                .filter(entry -> searchCache.get(entry.getValue()) != null)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    private OrderSearchCacheKey key(OrderStatus status, List<Long> orderItemIds) {
+        return OrderSearchCacheKey.of(new OrderSearchDto(status, orderItemIds), PageRequest.of(0, 20));
+    }
+}
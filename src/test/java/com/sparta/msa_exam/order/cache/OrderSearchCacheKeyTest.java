@@ -0,0 +1,20 @@
+package com.sparta.msa_exam.order.cache;
+
+import com.sparta.msa_exam.order.dto.OrderSearchDto;
+import com.sparta.msa_exam.order.enums.OrderStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderSearchCacheKeyTest {
+
+    @Test
+    void keepsLegacyKeyFormat() {
+        OrderSearchCacheKey key = OrderSearchCacheKey.of(new OrderSearchDto(OrderStatus.CREATED, List.of(3L, 1L)), PageRequest.of(2, 10));
+
+        assertThat(key).hasToString("status_CREATEDorderItemIds_1,3_pageNum2pageSize10");
+    }
+}
@@ -0,0 +1,116 @@
+package com.sparta.msa_exam.order.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightCacheTest {
+
+    private static final int CALLERS = 32;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        SingleFlightCache cache = new SingleFlightCache(new ConcurrentMapCache("orderCache", false));
+        AtomicInteger loads = new AtomicInteger();
+
+        List<String> results = callConcurrently(cache, 1L, () -> {
+            loads.incrementAndGet();
+            Thread.sleep(200);
+            return "order-1";
+        });
+
+        assertThat(loads).hasValue(1);
+        assertThat(results).hasSize(CALLERS).containsOnly("order-1");
+        assertThat(cache.get(1L, String.class)).isEqualTo("order-1");
+    }
+
+    @Test
+    void differentKeysLoadIndependently() throws Exception {
+        SingleFlightCache cache = new SingleFlightCache(new ConcurrentMapCache("orderCache", false));
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1L, () -> "order-" + loads.incrementAndGet());
+        cache.get(2L, () -> "order-" + loads.incrementAndGet());
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void missesForDifferentKeysDoNotWaitOnDelegateLock() throws Exception {
+        SingleFlightCache cache = new SingleFlightCache(new ConcurrentMapCache("orderCountCache", false) {
+            @Override
+            public synchronized <T> T get(Object key, Callable<T> valueLoader) {
+                return super.get(key, valueLoader);
+            }
+        });
+        CountDownLatch bothLoading = new CountDownLatch(2);
+        Callable<String> loader = () -> {
+            bothLoading.countDown();
+            if (!bothLoading.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("loads were serialized");
+            }
+            return "count";
+        };
+
+        Future<String> first = executor.submit(() -> cache.get(1L, loader));
+        Future<String> second = executor.submit(() -> cache.get(2L, loader));
+
+        assertThat(first.get(10, TimeUnit.SECONDS)).isEqualTo("count");
+        assertThat(second.get(10, TimeUnit.SECONDS)).isEqualTo("count");
+        assertThat(cache.get(2L, String.class)).isEqualTo("count");
+    }
+
+    @Test
+    void failedLoadIsSharedAndNotCached() throws Exception {
+        SingleFlightCache cache = new SingleFlightCache(new ConcurrentMapCache("orderCache", false));
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThatThrownBy(() -> callConcurrently(cache, 1L, () -> {
+            loads.incrementAndGet();
+            Thread.sleep(200);
+            throw new IllegalStateException("database unavailable");
+        })).hasRootCauseInstanceOf(IllegalStateException.class);
+
+        assertThat(loads).hasValue(1);
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    private List<String> callConcurrently(Cache cache, Object key, Callable<String> loader) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> futures = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return cache.get(key, loader);
+            }));
+        }
+        start.countDown();
+
+        List<String> results = new ArrayList<>();
+        for (Future<String> future : futures) {
+            results.add(future.get(5, TimeUnit.SECONDS));
+        }
+        return results;
+    }
+}
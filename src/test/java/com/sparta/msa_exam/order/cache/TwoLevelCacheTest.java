@@ -0,0 +1,126 @@
+package com.sparta.msa_exam.order.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class TwoLevelCacheTest {
+
+    private static final String CHANNEL = "order-cache:invalidation";
+    private static final Duration TTL = Duration.ofSeconds(10);
+
+    private final AtomicLong ticker = new AtomicLong();
+    private final List<NearCacheInvalidation> subscribers = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean pubSubDown = new AtomicBoolean();
+    private ConcurrentMapCache remote;
+    private TwoLevelCache first;
+    private TwoLevelCache second;
+
+    @BeforeEach
+    void setUp() {
+        remote = new ConcurrentMapCache("orderCache");
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        doAnswer(invocation -> {
+            if (pubSubDown.get()) {
+                throw new RedisConnectionFailureException("pub/sub down");
+            }
+            byte[] body = invocation.<String>getArgument(1).getBytes(StandardCharsets.UTF_8);
+            subscribers.forEach(subscriber -> subscriber.onMessage(new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), body), null));
+            return 1L;
+        }).when(redisTemplate).convertAndSend(eq(CHANNEL), anyString());
+
+        first = instance(redisTemplate);
+        second = instance(redisTemplate);
+    }
+
+    @Test
+    void readsThroughToRemoteAndServesLaterReadsLocally() {
+        remote.put(1L, "v1");
+
+        assertThat(first.get(1L).get()).isEqualTo("v1");
+        remote.evict(1L);
+
+        assertThat(first.get(1L).get()).isEqualTo("v1");
+    }
+
+    @Test
+    void localEntriesExpireAfterTtl() {
+        remote.put(1L, "v1");
+        first.get(1L);
+        remote.put(1L, "v2");
+
+        ticker.addAndGet(TTL.plusMillis(1).toNanos());
+
+        assertThat(first.get(1L).get()).isEqualTo("v2");
+    }
+
+    @Test
+    void writesOnOneInstanceEvictOtherInstancesButNotItself() {
+        first.put(1L, "v1");
+        assertThat(second.get(1L).get()).isEqualTo("v1");
+
+        first.put(1L, "v2");
+        remote.put(1L, "v3");
+
+        assertThat(second.get(1L).get()).isEqualTo("v3");
+        assertThat(first.get(1L).get()).isEqualTo("v2");
+    }
+
+    @Test
+    void evictAndClearPropagateToOtherInstances() {
+        first.put(1L, "v1");
+        first.put(2L, "v2");
+        second.get(1L);
+        second.get(2L);
+
+        first.evict(1L);
+        assertThat(second.get(1L)).isNull();
+
+        remote.put(2L, "v2-remote");
+        first.clear();
+        assertThat(second.get(2L)).isNull();
+    }
+
+    @Test
+    void writesSucceedWhilePubSubIsDownAndStaleEntriesAgeOut() {
+        first.put(1L, "v1");
+        second.get(1L);
+        pubSubDown.set(true);
+
+        first.put(1L, "v2");
+
+        assertThat(remote.get(1L).get()).isEqualTo("v2");
+        assertThat(second.get(1L).get()).isEqualTo("v1");
+
+        ticker.addAndGet(TTL.plusMillis(1).toNanos());
+        assertThat(second.get(1L).get()).isEqualTo("v2");
+    }
+
+    private TwoLevelCache instance(StringRedisTemplate redisTemplate) {
+        NearCacheInvalidation invalidation = new NearCacheInvalidation(redisTemplate, CHANNEL);
+        TwoLevelCache cache = new TwoLevelCache("orderCache", Caffeine.newBuilder()
+                .expireAfterWrite(TTL)
+                .ticker(ticker::get)
+                .build(), remote, invalidation);
+        invalidation.register(cache);
+        subscribers.add(invalidation);
+        return cache;
+    }
+}
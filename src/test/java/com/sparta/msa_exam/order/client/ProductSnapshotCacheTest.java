@@ -0,0 +1,66 @@
+package com.sparta.msa_exam.order.client;
+
+import com.sparta.msa_exam.order.client.dto.ProductResponseDto;
+import com.sparta.msa_exam.order.config.ProductSnapshotProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProductSnapshotCacheTest {
+
+    private final ProductClient productClient = mock(ProductClient.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void repeatedLookupsAreServedFromSnapshot() {
+        when(productClient.getProduct(1L)).thenReturn(product(1L, 5));
+        ProductSnapshotCache cache = new ProductSnapshotCache(productClient, new ProductSnapshotProperties(), meterRegistry, Runnable::run);
+
+        cache.getProduct(1L);
+        cache.getProduct(1L);
+
+        verify(productClient, times(1)).getProduct(1L);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "productSnapshotCache").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void bulkLookupOnlyLoadsMissingProducts() {
+        when(productClient.getProduct(1L)).thenReturn(product(1L, 5));
+        when(productClient.getProducts(anyCollection())).thenReturn(List.of(product(2L, 3)));
+        ProductSnapshotCache cache = new ProductSnapshotCache(productClient, new ProductSnapshotProperties(), meterRegistry, Runnable::run);
+
+        cache.getProduct(1L);
+        Map<Long, ProductResponseDto> products = cache.getProducts(List.of(1L, 2L));
+
+        assertThat(products).containsOnlyKeys(1L, 2L);
+        verify(productClient).getProducts(Set.of(2L));
+    }
+
+    @Test
+    void disabledSnapshotCallsProductServiceEveryTime() {
+        when(productClient.getProduct(1L)).thenReturn(product(1L, 5));
+        ProductSnapshotProperties properties = new ProductSnapshotProperties();
+        properties.setEnabled(false);
+        ProductSnapshotCache cache = new ProductSnapshotCache(productClient, properties, meterRegistry, Runnable::run);
+
+        cache.getProduct(1L);
+        cache.getProduct(1L);
+
+        verify(productClient, times(2)).getProduct(1L);
+    }
+
+    private ProductResponseDto product(Long id, int quantity) {
+        return new ProductResponseDto(id, "product" + id, null, 1000, quantity, null, null, null, null);
+    }
+}
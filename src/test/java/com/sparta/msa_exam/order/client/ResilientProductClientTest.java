@@ -0,0 +1,116 @@
+package com.sparta.msa_exam.order.client;
+
+import com.sparta.msa_exam.order.client.dto.ProductResponseDto;
+import com.sparta.msa_exam.order.exception.ProductServiceUnavailableException;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ResilientProductClientTest {
+
+    private ExecutorService executor;
+    private ExecutorService callers;
+    private ProductClient delegate;
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private ResilientProductClient client;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newCachedThreadPool();
+        callers = Executors.newFixedThreadPool(8);
+        delegate = mock(ProductClient.class);
+        circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowSize(4)
+                .minimumNumberOfCalls(4)
+                .failureRateThreshold(50)
+                .build());
+        client = new ResilientProductClient(
+                delegate,
+                circuitBreakerRegistry,
+                BulkheadRegistry.of(BulkheadConfig.custom().maxConcurrentCalls(2).maxWaitDuration(Duration.ZERO).build()),
+                RateLimiterRegistry.ofDefaults(),
+                TimeLimiterRegistry.of(TimeLimiterConfig.custom().timeoutDuration(Duration.ofMillis(100)).build()),
+                executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        callers.shutdownNow();
+    }
+
+    @Test
+    void slowProductServiceTimesOutInsteadOfBlockingCaller() {
+        when(delegate.getProduct(1L)).thenAnswer(invocation -> slow(product(1L)));
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> client.getProduct(1L)).isInstanceOf(ProductServiceUnavailableException.class);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(1000));
+    }
+
+    @Test
+    void bulkheadRejectsCallsBeyondConcurrencyLimit() {
+        when(delegate.getProduct(1L)).thenAnswer(invocation -> slow(product(1L)));
+
+        List<CompletableFuture<Throwable>> results = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            results.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    client.getProduct(1L);
+                    return null;
+                } catch (Throwable t) {
+                    return t;
+                }
+            }, callers));
+        }
+
+        assertThat(results).extracting(CompletableFuture::join)
+                .allSatisfy(error -> assertThat(error).isInstanceOf(ProductServiceUnavailableException.class));
+        assertThat(circuitBreakerRegistry.circuitBreaker(ResilientProductClient.INSTANCE).getMetrics().getNumberOfFailedCalls())
+                .isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void repeatedTimeoutsOpenTheCircuitAndFailFast() {
+        when(delegate.getProduct(1L)).thenAnswer(invocation -> slow(product(1L)));
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> client.getProduct(1L)).isInstanceOf(ProductServiceUnavailableException.class);
+        }
+
+        assertThat(circuitBreakerRegistry.circuitBreaker(ResilientProductClient.INSTANCE).getState())
+                .isEqualTo(CircuitBreaker.State.OPEN);
+
+        when(delegate.getProduct(2L)).thenReturn(product(2L));
+        assertThatThrownBy(() -> client.getProduct(2L)).isInstanceOf(ProductServiceUnavailableException.class);
+    }
+
+    private ProductResponseDto slow(ProductResponseDto product) throws InterruptedException {
+        Thread.sleep(500);
+        return product;
+    }
+
+    private ProductResponseDto product(Long id) {
+        return new ProductResponseDto(id, "product" + id, null, 1000, 10, null, null, null, null);
+    }
+}
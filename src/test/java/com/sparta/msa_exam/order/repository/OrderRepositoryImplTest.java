@@ -0,0 +1,178 @@
+package com.sparta.msa_exam.order.repository;
+
+import com.sparta.msa_exam.order.OrderApplication;
+import com.sparta.msa_exam.order.config.OrderApplicationQueryDslConfig;
+import com.sparta.msa_exam.order.dto.OrderResponseDto;
+import com.sparta.msa_exam.order.dto.OrderSearchDto;
+import com.sparta.msa_exam.order.entity.Order;
+import com.sparta.msa_exam.order.enums.OrderStatus;
+import com.sparta.msa_exam.order.metrics.OrderMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class OrderRepositoryImplTest {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (long i = 1; i <= 120; i++) {
+            orderRepository.save(Order.builder()
+                    .orderItemIds(new ArrayList<>(List.of(i, i + 1000, i + 2000)))
+                    .createdBy("user")
+                    .status(i % 2 == 0 ? OrderStatus.CREATED : OrderStatus.PAID)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 50})
+    void searchSliceRunsFixedNumberOfQueriesPerPage(int pageSize) {
+        Slice<OrderResponseDto> slice = orderRepository.searchOrderSlice(new OrderSearchDto(), PageRequest.of(1, pageSize, Sort.by("createdAt")), "MANAGER", "user");
+
+        assertThat(slice.getContent()).hasSize(pageSize);
+        assertThat(slice.getContent()).allSatisfy(order -> assertThat(order.getOrderItemIds()).hasSize(3));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+    }
+
+    @Test
+    void searchPageAddsOneCachedCountQuery() {
+        OrderSearchDto searchDto = new OrderSearchDto(OrderStatus.CREATED, null);
+
+        Page<OrderResponseDto> first = orderRepository.searchOrders(searchDto, PageRequest.of(0, 20), "MANAGER", "user");
+        long afterFirst = statistics.getPrepareStatementCount();
+        Page<OrderResponseDto> second = orderRepository.searchOrders(searchDto, PageRequest.of(1, 20), "MANAGER", "user");
+
+        assertThat(first.getTotalElements()).isEqualTo(60);
+        assertThat(second.getTotalElements()).isEqualTo(60);
+        assertThat(afterFirst).isEqualTo(3);
+        assertThat(statistics.getPrepareStatementCount() - afterFirst).isEqualTo(2);
+    }
+
+    @Test
+    void orderItemFilterMatchesOrdersContainingAnyItem() {
+        OrderSearchDto searchDto = new OrderSearchDto(OrderStatus.PAID, List.of(5L, 1006L, 9999L));
+
+        Page<OrderResponseDto> page = orderRepository.searchOrders(searchDto, PageRequest.of(0, 20), "MANAGER", "user");
+
+        assertThat(page.getTotalElements()).isEqualTo(1);
+        assertThat(page.getContent().get(0).getOrderItemIds()).containsExactlyInAnyOrder(5L, 1005L, 2005L);
+    }
+
+    @Test
+    void searchSkipsSoftDeletedOrders() {
+        Order deleted = orderRepository.findAll(PageRequest.of(0, 1)).getContent().get(0);
+        Long deletedId = deleted.getId();
+        deleted.deleteOrder("user");
+        entityManager.flush();
+        entityManager.clear();
+
+        Page<OrderResponseDto> page = orderRepository.searchOrders(new OrderSearchDto(), PageRequest.of(0, 200), "MANAGER", "user");
+
+        assertThat(page.getTotalElements()).isEqualTo(119);
+        assertThat(page.getContent()).extracting(OrderResponseDto::getOrderId).doesNotContain(deletedId);
+    }
+
+    @Test
+    void exportStreamsEachMatchingOrderOnceWithAllItems() {
+        List<OrderResponseDto> exported = new ArrayList<>();
+
+        orderRepository.exportOrders(new OrderSearchDto(OrderStatus.PAID, null), "MANAGER", "user", 7, exported::add);
+
+        assertThat(exported).hasSize(60);
+        assertThat(exported).extracting(OrderResponseDto::getOrderId).isSorted().doesNotHaveDuplicates();
+        assertThat(exported).allSatisfy(order -> {
+            assertThat(order.getStatus()).isEqualTo("PAID");
+            assertThat(order.getOrderItemIds()).hasSize(3);
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void findByIdsSkipsDeletedOrdersAndLoadsItemsInTwoQueries() {
+        List<Long> ids = orderRepository.findAll(PageRequest.of(0, 3, Sort.by("id"))).map(Order::getId).getContent();
+        Order deleted = orderRepository.findById(ids.get(2)).orElseThrow();
+        deleted.deleteOrder("user");
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        List<OrderResponseDto> orders = orderRepository.findOrdersByIds(ids);
+
+        assertThat(orders).extracting(OrderResponseDto::getOrderId).containsExactlyInAnyOrder(ids.get(0), ids.get(1));
+        assertThat(orders).allSatisfy(order -> assertThat(order.getOrderItemIds()).hasSize(3));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void transitionOnlyMovesLiveOrdersInExpectedStatus() {
+        List<Long> ids = orderRepository.findAll(PageRequest.of(0, 2, Sort.by("id"))).map(Order::getId).getContent();
+        Order deleted = orderRepository.findById(ids.get(1)).orElseThrow();
+        deleted.deleteOrder("user");
+        entityManager.flush();
+        entityManager.clear();
+
+        LocalDateTime now = LocalDateTime.now();
+        OrderStatus current = orderRepository.findById(ids.get(0)).orElseThrow().getStatus();
+        OrderStatus other = current == OrderStatus.PAID ? OrderStatus.CREATED : OrderStatus.PAID;
+        assertThat(orderRepository.transition(ids.get(0), other, OrderStatus.CANCELLED, now)).isZero();
+        assertThat(orderRepository.transition(ids.get(0), current, OrderStatus.CANCELLED, now)).isEqualTo(1);
+        assertThat(orderRepository.transition(ids.get(1), deleted.getStatus(), OrderStatus.CANCELLED, now)).isZero();
+
+        assertThat(orderRepository.findById(ids.get(0)).orElseThrow().getStatus()).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(orderRepository.findById(ids.get(1)).orElseThrow().getStatus()).isEqualTo(deleted.getStatus());
+    }
+
+    @SpringBootConfiguration
+    @AutoConfigurationPackage(basePackageClasses = OrderApplication.class)
+    @Import({OrderApplicationQueryDslConfig.class, OrderMetrics.class})
+    static class TestConfig {
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager();
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
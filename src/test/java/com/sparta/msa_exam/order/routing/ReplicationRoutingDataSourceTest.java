@@ -0,0 +1,73 @@
+package com.sparta.msa_exam.order.routing;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicationRoutingDataSourceTest {
+
+    private ReplicationRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("primary");
+        DataSource replica = database("replica");
+        routingDataSource = new ReplicationRoutingDataSource(primary, Map.of("replica", replica));
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Test
+    void readOnlyTransactionsGoToReplicaAndWritesToPrimary() {
+        assertThat(readOnlyTransaction.execute(status -> currentDatabase())).isEqualTo("replica");
+        assertThat(writeTransaction.execute(status -> currentDatabase())).isEqualTo("primary");
+        assertThat(currentDatabase()).isEqualTo("primary");
+    }
+
+    @Test
+    void pinnedReadsStayOnPrimary() {
+        String database = readOnlyTransaction.execute(status -> ReplicationRoutingDataSource.onPrimary(this::currentDatabase));
+
+        assertThat(database).isEqualTo("primary");
+        assertThat(readOnlyTransaction.execute(status -> currentDatabase())).isEqualTo("replica");
+    }
+
+    @Test
+    void laggingReplicaIsSkippedUntilItRecovers() {
+        routingDataSource.setHealthy("replica", false);
+        assertThat(readOnlyTransaction.execute(status -> currentDatabase())).isEqualTo("primary");
+
+        routingDataSource.setHealthy("replica", true);
+        assertThat(readOnlyTransaction.execute(status -> currentDatabase())).isEqualTo("replica");
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("select name from node", String.class);
+    }
+
+    private DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("create table if not exists node (name varchar(20))");
+        template.update("delete from node");
+        template.update("insert into node values (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,132 @@
+package com.sparta.msa_exam.order.service;
+
+import com.sparta.msa_exam.order.cache.OrderSearchCacheEvictor;
+import com.sparta.msa_exam.order.config.OrderAcceptanceProperties;
+import com.sparta.msa_exam.order.dto.OrderRequestDto;
+import com.sparta.msa_exam.order.dto.OrderResponseDto;
+import com.sparta.msa_exam.order.entity.Order;
+import com.sparta.msa_exam.order.enums.OrderAcceptanceMode;
+import com.sparta.msa_exam.order.enums.OrderEventType;
+import com.sparta.msa_exam.order.enums.OrderStatus;
+import com.sparta.msa_exam.order.exception.ProductServiceUnavailableException;
+import com.sparta.msa_exam.order.repository.OrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OrderAcceptanceServiceTest {
+
+    private OrderRepository orderRepository;
+    private OrderEventOutbox orderEventOutbox;
+    private ProductReservationService reservationService;
+    private ConcurrentMapCacheManager cacheManager;
+    private OrderAcceptanceProperties properties;
+    private Order stored;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository = mock(OrderRepository.class);
+        orderEventOutbox = mock(OrderEventOutbox.class);
+        reservationService = mock(ProductReservationService.class);
+        cacheManager = new ConcurrentMapCacheManager("orderCache");
+        properties = new OrderAcceptanceProperties();
+        properties.setMode(OrderAcceptanceMode.ASYNC);
+
+        when(orderEventOutbox.saveAndRecord(any(Order.class), any(OrderEventType.class))).thenAnswer(invocation -> {
+            stored = invocation.getArgument(0);
+            ReflectionTestUtils.setField(stored, "id", 1L);
+            return stored;
+        });
+        when(orderEventOutbox.transitionAndRecord(eq(1L), eq(OrderStatus.PENDING), any(OrderStatus.class), eq(OrderEventType.ORDER_UPDATED)))
+                .thenAnswer(invocation -> {
+                    if (stored == null || stored.getStatus() != OrderStatus.PENDING || stored.getDeletedAt() != null) {
+                        return null;
+                    }
+                    stored.updateStatus(invocation.getArgument(2));
+                    return stored;
+                });
+        when(orderRepository.findOrderItemIds(1L)).thenAnswer(invocation -> stored.getOrderItemIds());
+        when(orderRepository.claim(eq(1L), eq(OrderStatus.PENDING), any(), any())).thenReturn(1);
+        when(reservationService.reserve(anyString(), anyList())).thenReturn(StockReservation.none());
+    }
+
+    @Test
+    void acceptReturnsPendingAndCompletesOnWorker() {
+        List<Runnable> queued = new ArrayList<>();
+        OrderAcceptanceService service = service(queued::add);
+
+        OrderResponseDto response = service.accept(new OrderRequestDto(new ArrayList<>(List.of(1L, 2L)), null), "user");
+
+        assertThat(response.getStatus()).isEqualTo("PENDING");
+        assertThat(queued).hasSize(1);
+
+        queued.get(0).run();
+
+        assertThat(stored.getStatus()).isEqualTo(OrderStatus.CREATED);
+        assertThat(cacheManager.getCache("orderCache").get(1L, OrderResponseDto.class).getStatus()).isEqualTo("CREATED");
+    }
+
+    @Test
+    void failedReservationCancelsOrder() {
+        doThrow(new ResponseStatusException(HttpStatus.BAD_REQUEST, "out of stock")).when(reservationService).reserve(anyString(), anyList());
+        OrderAcceptanceService service = service(Runnable::run);
+
+        service.accept(new OrderRequestDto(new ArrayList<>(List.of(1L)), null), "user");
+
+        assertThat(stored.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+    }
+
+    @Test
+    void fullQueueCancelsOrderAndRejectsRequest() {
+        OrderAcceptanceService service = service(task -> {
+            throw new TaskRejectedException("queue full");
+        });
+
+        assertThatThrownBy(() -> service.accept(new OrderRequestDto(new ArrayList<>(List.of(1L)), null), "user"))
+                .isInstanceOf(ProductServiceUnavailableException.class);
+        assertThat(stored.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+    }
+
+    @Test
+    void orderDeletedWhileReservingReleasesStock() {
+        AtomicBoolean confirmed = new AtomicBoolean();
+        AtomicBoolean released = new AtomicBoolean();
+        when(reservationService.reserve(anyString(), anyList())).thenAnswer(invocation -> {
+            stored.deleteOrder("user");
+            return StockReservation.of(() -> confirmed.set(true), () -> released.set(true));
+        });
+        OrderAcceptanceService service = service(Runnable::run);
+
+        service.accept(new OrderRequestDto(new ArrayList<>(List.of(1L)), null), "user");
+
+        assertThat(stored.getStatus()).isEqualTo(OrderStatus.PENDING);
+        assertThat(confirmed).isFalse();
+        assertThat(released).isTrue();
+        assertThat(cacheManager.getCache("orderCache").get(1L, OrderResponseDto.class).getStatus()).isEqualTo("PENDING");
+    }
+
+    private OrderAcceptanceService service(Executor executor) {
+        return new OrderAcceptanceService(orderRepository, orderEventOutbox, reservationService,
+                mock(OrderSearchCacheEvictor.class), cacheManager, properties, executor, new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,149 @@
+package com.sparta.msa_exam.order.service;
+
+import com.sparta.msa_exam.order.OrderApplication;
+import com.sparta.msa_exam.order.cache.OrderSearchCacheEvictor;
+import com.sparta.msa_exam.order.config.OrderApplicationQueryDslConfig;
+import com.sparta.msa_exam.order.config.OrderArchiveProperties;
+import com.sparta.msa_exam.order.entity.Order;
+import com.sparta.msa_exam.order.enums.OrderStatus;
+import com.sparta.msa_exam.order.metrics.OrderMetrics;
+import com.sparta.msa_exam.order.repository.OrderRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest
+class OrderArchiveServiceTest {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    private ConcurrentMapCacheManager cacheManager;
+    private OrderSearchCacheEvictor orderSearchCacheEvictor;
+    private OrderArchiveService archiveService;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        cacheManager = new ConcurrentMapCacheManager("orderCache");
+        orderSearchCacheEvictor = mock(OrderSearchCacheEvictor.class);
+        archiveService = new OrderArchiveService(jdbcTemplate, new TransactionTemplate(transactionManager),
+                mock(OrderMaintenanceLock.class), cacheManager, orderSearchCacheEvictor, new OrderArchiveProperties(),
+                new SimpleMeterRegistry(), Runnable::run);
+    }
+
+    @Test
+    void archivesAgedAndSoftDeletedOrdersWithTheirItems() {
+        LocalDateTime now = LocalDateTime.now();
+        Order live = save(1L);
+        Order deleted = save(2L);
+        Order aged = save(3L);
+        deleted.deleteOrder("user");
+        entityManager.flush();
+        jdbcTemplate.update("update orders set deleted_at = :deletedAt where id = :id", Map.of("deletedAt", now.minusDays(2), "id", deleted.getId()));
+        jdbcTemplate.update("update orders set created_at = :createdAt where id = :id", Map.of("createdAt", now.minusDays(365), "id", aged.getId()));
+        entityManager.clear();
+
+        int archived = archiveService.archiveAll(now);
+
+        assertThat(archived).isEqualTo(2);
+        assertThat(ids("select id from orders")).containsExactly(live.getId());
+        assertThat(ids("select id from orders_archive")).containsExactlyInAnyOrder(deleted.getId(), aged.getId());
+        assertThat(ids("select order_id from order_items_archive")).hasSize(4);
+        assertThat(ids("select order_id from order_items")).containsOnly(live.getId());
+    }
+
+    @Test
+    void evictsArchivedOrdersFromCaches() {
+        Order live = save(1L);
+        Order deleted = save(2L);
+        deleted.deleteOrder("user");
+        entityManager.flush();
+        entityManager.clear();
+        Cache orderCache = cacheManager.getCache("orderCache");
+        orderCache.put(live.getId(), "live");
+        orderCache.put(deleted.getId(), "deleted");
+
+        archiveService.archiveAll(LocalDateTime.now().plusDays(2));
+
+        assertThat(orderCache.get(live.getId())).isNotNull();
+        assertThat(orderCache.get(deleted.getId())).isNull();
+        verify(orderSearchCacheEvictor).evict(eq(List.of(OrderStatus.CREATED)),
+                argThat(orderItemIds -> orderItemIds.size() == 2 && orderItemIds.containsAll(List.of(2L, 1002L))));
+    }
+
+    @Test
+    void keepsRecentlyDeletedOrdersUntilGracePeriodPasses() {
+        Order deleted = save(1L);
+        deleted.deleteOrder("user");
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(archiveService.archiveAll(LocalDateTime.now())).isZero();
+        assertThat(archiveService.archiveAll(LocalDateTime.now().plusDays(2))).isEqualTo(1);
+        assertThat(ids("select id from orders")).isEmpty();
+    }
+
+    private Order save(long productId) {
+        return orderRepository.save(Order.builder()
+                .orderItemIds(new ArrayList<>(List.of(productId, productId + 1000)))
+                .createdBy("user")
+                .status(OrderStatus.CREATED)
+                .build());
+    }
+
+    private List<Long> ids(String sql) {
+        return jdbcTemplate.queryForList(sql, Map.of(), Long.class);
+    }
+
+    @SpringBootConfiguration
+    @AutoConfigurationPackage(basePackageClasses = OrderApplication.class)
+    @Import({OrderApplicationQueryDslConfig.class, OrderMetrics.class})
+    static class TestConfig {
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager();
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.sparta.msa_exam.order.service;
+
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.sparta.msa_exam.order.cache.OrderCacheBatch;
+import com.sparta.msa_exam.order.config.OrderCacheWarmupProperties;
+import com.sparta.msa_exam.order.dto.OrderCursor;
+import com.sparta.msa_exam.order.dto.OrderResponseDto;
+import com.sparta.msa_exam.order.repository.OrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrderCacheWarmupServiceTest {
+
+    private OrderRepository orderRepository;
+    private OrderCacheBatch orderCacheBatch;
+    private ValueOperations<String, String> valueOperations;
+    private OrderCacheWarmupProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private OrderCacheWarmupService warmupService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        orderRepository = mock(OrderRepository.class);
+        orderCacheBatch = mock(OrderCacheBatch.class);
+        StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        properties = new OrderCacheWarmupProperties();
+        properties.setBatchSize(3);
+        properties.setBatchesPerSecond(0);
+        meterRegistry = new SimpleMeterRegistry();
+        ObjectProvider<ApplicationInfoManager> applicationInfoManager = mock(ObjectProvider.class);
+
+        warmupService = new OrderCacheWarmupService(orderRepository, orderCacheBatch, stringRedisTemplate, properties, meterRegistry, applicationInfoManager, Runnable::run);
+    }
+
+    @Test
+    void pagesThroughRecentOrdersUntilShortBatch() {
+        when(orderRepository.findRecentOrders(isNull(), eq(3))).thenReturn(orders(1, 3));
+        when(orderRepository.findRecentOrders(any(OrderCursor.class), eq(3))).thenReturn(orders(4, 5));
+
+        warmupService.warmUp("startup");
+
+        verify(orderCacheBatch, times(2)).putAllIfAbsent(any());
+        assertThat(meterRegistry.counter("order.cache.warmup.entries", "trigger", "startup").count()).isEqualTo(5);
+        assertThat(meterRegistry.timer("order.cache.warmup.duration", "trigger", "startup").count()).isEqualTo(1);
+    }
+
+    @Test
+    void stopsAtMaxEntries() {
+        properties.setMaxEntries(4);
+        when(orderRepository.findRecentOrders(isNull(), eq(3))).thenReturn(orders(1, 3));
+        when(orderRepository.findRecentOrders(any(OrderCursor.class), eq(1))).thenReturn(orders(4, 4));
+
+        warmupService.warmUp("startup");
+
+        verify(orderRepository, never()).findRecentOrders(any(OrderCursor.class), eq(3));
+        assertThat(meterRegistry.counter("order.cache.warmup.entries", "trigger", "startup").count()).isEqualTo(4);
+    }
+
+    @Test
+    void rewarmsOnlyWhenMarkerIsMissing() {
+        when(orderRepository.findRecentOrders(any(), anyInt())).thenReturn(List.of());
+        when(valueOperations.setIfAbsent(properties.getMarkerKey(), "1")).thenReturn(false, true);
+
+        warmupService.warmUpAfterRedisRestart();
+        warmupService.warmUpAfterRedisRestart();
+
+        verify(orderRepository, times(1)).findRecentOrders(any(), anyInt());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void redisRestartWarmUpRunsOffTheSchedulerThread() {
+        List<Runnable> queued = new ArrayList<>();
+        StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(properties.getMarkerKey(), "1")).thenReturn(true);
+        when(orderRepository.findRecentOrders(any(), anyInt())).thenReturn(List.of());
+        OrderCacheWarmupService service = new OrderCacheWarmupService(orderRepository, orderCacheBatch, stringRedisTemplate,
+                properties, meterRegistry, mock(ObjectProvider.class), queued::add);
+
+        service.warmUpAfterRedisRestart();
+
+        verify(orderRepository, never()).findRecentOrders(any(), anyInt());
+        assertThat(queued).hasSize(1);
+
+        queued.get(0).run();
+        verify(orderRepository).findRecentOrders(any(), anyInt());
+    }
+
+    private List<OrderResponseDto> orders(long from, long to) {
+        LocalDateTime now = LocalDateTime.now();
+        return LongStream.rangeClosed(from, to)
+                .mapToObj(id -> new OrderResponseDto(id, "CREATED", now.minusSeconds(id), "user", now, "user", List.of(id)))
+                .toList();
+    }
+}
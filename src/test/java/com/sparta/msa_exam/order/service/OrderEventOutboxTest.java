@@ -0,0 +1,93 @@
+package com.sparta.msa_exam.order.service;
+
+import com.sparta.msa_exam.order.OrderApplication;
+import com.sparta.msa_exam.order.config.JacksonConfig;
+import com.sparta.msa_exam.order.config.OrderApplicationQueryDslConfig;
+import com.sparta.msa_exam.order.entity.Order;
+import com.sparta.msa_exam.order.enums.OrderEventType;
+import com.sparta.msa_exam.order.enums.OrderStatus;
+import com.sparta.msa_exam.order.metrics.OrderMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class OrderEventOutboxTest {
+
+    private static final int ORDERS = 120;
+
+    @Autowired
+    private OrderEventOutbox orderEventOutbox;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void saveAllAndRecordBatchesOrderItemAndOutboxInserts() {
+        List<Order> orders = LongStream.rangeClosed(1, ORDERS)
+                .mapToObj(i -> Order.builder()
+                        .orderItemIds(new ArrayList<>(List.of(i, i + 1000)))
+                        .createdBy("user")
+                        .status(OrderStatus.CREATED)
+                        .build())
+                .collect(Collectors.toList());
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        orderEventOutbox.saveAllAndRecord(orders, OrderEventType.ORDER_CREATED, 50);
+
+        assertThat(orders).extracting(Order::getId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(ORDERS);
+        assertThat(entityManager.createQuery("select count(o) from Order o", Long.class).getSingleResult()).isEqualTo(ORDERS);
+        assertThat(entityManager.createQuery("select count(o) from OrderOutbox o", Long.class).getSingleResult()).isEqualTo(ORDERS);
+    }
+
+    @Test
+    void eachChangeRecordsTheNextOrderVersion() {
+        Order order = orderEventOutbox.saveAndRecord(Order.builder()
+                .orderItemIds(new ArrayList<>(List.of(1L)))
+                .createdBy("user")
+                .status(OrderStatus.PENDING)
+                .build(), OrderEventType.ORDER_CREATED);
+        order.updateOrder(2L, "user");
+        orderEventOutbox.saveAndRecord(order, OrderEventType.ORDER_UPDATED);
+        orderEventOutbox.transitionAndRecord(order.getId(), OrderStatus.PENDING, OrderStatus.CREATED, OrderEventType.ORDER_UPDATED);
+
+        assertThat(entityManager.createQuery("select o.aggregateVersion from OrderOutbox o where o.orderId = :orderId order by o.id", Long.class)
+                .setParameter("orderId", order.getId())
+                .getResultList()).containsExactly(0L, 1L, 2L);
+    }
+
+    @SpringBootConfiguration
+    @AutoConfigurationPackage(basePackageClasses = OrderApplication.class)
+    @Import({OrderApplicationQueryDslConfig.class, JacksonConfig.class, OrderEventOutbox.class, OrderMetrics.class})
+    static class TestConfig {
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager();
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.sparta.msa_exam.order.service;
+
+import com.sparta.msa_exam.order.config.JacksonConfig;
+import com.sparta.msa_exam.order.config.OrderExportProperties;
+import com.sparta.msa_exam.order.dto.OrderResponseDto;
+import com.sparta.msa_exam.order.dto.OrderSearchDto;
+import com.sparta.msa_exam.order.enums.OrderExportFormat;
+import com.sparta.msa_exam.order.repository.OrderRepository;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class OrderExportServiceTest {
+
+    @Test
+    void ndjsonWritesOneObjectPerLineWithoutSeparatorPadding() throws Exception {
+        String body = export(List.of(order(1L), order(2L)));
+
+        assertThat(body).isEqualTo(
+                "{\"orderId\":1,\"status\":\"CREATED\",\"createdAt\":null,\"createdBy\":\"user\",\"updatedAt\":null,\"updatedBy\":null,\"orderItemIds\":[1]}\n" +
+                "{\"orderId\":2,\"status\":\"CREATED\",\"createdAt\":null,\"createdBy\":\"user\",\"updatedAt\":null,\"updatedBy\":null,\"orderItemIds\":[2]}\n");
+    }
+
+    @Test
+    void ndjsonIsEmptyWithoutOrders() throws Exception {
+        assertThat(export(List.of())).isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private String export(List<OrderResponseDto> orders) throws Exception {
+        OrderRepository orderRepository = mock(OrderRepository.class);
+        doAnswer(invocation -> {
+            orders.forEach(invocation.<Consumer<OrderResponseDto>>getArgument(4));
+            return null;
+        }).when(orderRepository).exportOrders(any(), any(), any(), anyInt(), any(Consumer.class));
+
+        OrderExportService service = new OrderExportService(orderRepository, new JacksonConfig().objectMapper(), new OrderExportProperties());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.exportOrders(new OrderSearchDto(), "MANAGER", "user", OrderExportFormat.NDJSON, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private OrderResponseDto order(Long id) {
+        return new OrderResponseDto(id, "CREATED", null, "user", null, null, List.of(id));
+    }
+}
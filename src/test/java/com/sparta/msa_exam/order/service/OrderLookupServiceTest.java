@@ -0,0 +1,132 @@
+package com.sparta.msa_exam.order.service;
+
+import com.sparta.msa_exam.order.cache.JitteredTtlFunction;
+import com.sparta.msa_exam.order.cache.OrderCacheBatch;
+import com.sparta.msa_exam.order.config.CacheCodecProperties;
+import com.sparta.msa_exam.order.config.OrderSearchProperties;
+import com.sparta.msa_exam.order.config.RedisConfig;
+import com.sparta.msa_exam.order.dto.OrderResponseDto;
+import com.sparta.msa_exam.order.metrics.OrderMetrics;
+import com.sparta.msa_exam.order.repository.OrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.TestSocketUtils;
+import org.springframework.web.server.ResponseStatusException;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class OrderLookupServiceTest {
+
+    private OrderRepository orderRepository;
+    private OrderCacheBatch orderCacheBatch;
+    private OrderSearchProperties properties;
+    private OrderLookupService lookupService;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository = mock(OrderRepository.class);
+        orderCacheBatch = mock(OrderCacheBatch.class);
+        properties = new OrderSearchProperties();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        lookupService = new OrderLookupService(orderRepository, orderCacheBatch, properties, new OrderMetrics(meterRegistry), meterRegistry);
+    }
+
+    @Test
+    void loadsOnlyMissesAndBackfillsThemInRequestOrder() {
+        when(orderCacheBatch.getAll(Set.of(3L, 1L, 2L))).thenReturn(Map.of(1L, order(1L)));
+        List<OrderResponseDto> loaded = List.of(order(2L), order(3L));
+        when(orderRepository.findOrdersByIds(Set.of(3L, 2L))).thenReturn(loaded);
+
+        List<OrderResponseDto> orders = lookupService.getOrdersByIds(List.of(3L, 1L, 2L, 3L));
+
+        assertThat(orders).extracting(OrderResponseDto::getOrderId).containsExactly(3L, 1L, 2L);
+        verify(orderCacheBatch).putAllIfAbsent(loaded);
+    }
+
+    @Test
+    void skipsDatabaseWhenEveryOrderIsCached() {
+        when(orderCacheBatch.getAll(Set.of(1L, 2L))).thenReturn(Map.of(1L, order(1L), 2L, order(2L)));
+
+        List<OrderResponseDto> orders = lookupService.getOrdersByIds(List.of(1L, 2L));
+
+        assertThat(orders).hasSize(2);
+        verify(orderRepository, never()).findOrdersByIds(anyCollection());
+    }
+
+    @Test
+    void fallsBackToDatabaseWhenRedisFails() {
+        when(orderCacheBatch.getAll(Set.of(1L, 2L))).thenThrow(new QueryTimeoutException("redis down"));
+        when(orderRepository.findOrdersByIds(Set.of(1L, 2L))).thenReturn(List.of(order(1L)));
+
+        List<OrderResponseDto> orders = lookupService.getOrdersByIds(List.of(1L, 2L));
+
+        assertThat(orders).extracting(OrderResponseDto::getOrderId).containsExactly(1L);
+    }
+
+    @Test
+    void backfillDoesNotOverwriteOrderCachedAfterDatabaseRead() throws IOException {
+        int port = TestSocketUtils.findAvailableTcpPort();
+        RedisServer redisServer = new RedisServer(port);
+        redisServer.start();
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        try {
+            RedisTemplate<String, OrderResponseDto> orderTemplate = new RedisConfig().orderTemplate(connectionFactory, new CacheCodecProperties());
+            orderTemplate.afterPropertiesSet();
+            OrderCacheBatch redisCacheBatch = new OrderCacheBatch(orderTemplate, new JitteredTtlFunction(Duration.ofMinutes(1), 0.1));
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            OrderLookupService service = new OrderLookupService(orderRepository, redisCacheBatch, properties, new OrderMetrics(meterRegistry), meterRegistry);
+
+            when(orderRepository.findOrdersByIds(Set.of(1L))).thenAnswer(invocation -> {
+                orderTemplate.opsForValue().set("orderCache::1", order(1L, "SHIPPED"));
+                return List.of(order(1L));
+            });
+
+            assertThat(service.getOrdersByIds(List.of(1L))).extracting(OrderResponseDto::getStatus).containsExactly("CREATED");
+            assertThat(redisCacheBatch.getAll(List.of(1L)).get(1L).getStatus()).isEqualTo("SHIPPED");
+        } finally {
+            connectionFactory.destroy();
+            redisServer.stop();
+        }
+    }
+
+    @Test
+    void rejectsTooManyIds() {
+        properties.setMaxLookupIds(5);
+
+        assertThatThrownBy(() -> lookupService.getOrdersByIds(LongStream.rangeClosed(1, 6).boxed().toList()))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(e -> ((ResponseStatusException) e).getStatusCode())
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+        verifyNoInteractions(orderCacheBatch, orderRepository);
+    }
+
+    private OrderResponseDto order(Long orderId) {
+        return order(orderId, "CREATED");
+    }
+
+    private OrderResponseDto order(Long orderId, String status) {
+        return new OrderResponseDto(orderId, status, null, "user", null, "user", List.of(orderId));
+    }
+}
@@ -0,0 +1,84 @@
+package com.sparta.msa_exam.order.service;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.TestSocketUtils;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderMaintenanceLockTest {
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+
+    private StringRedisTemplate stringRedisTemplate;
+    private OrderMaintenanceLock lock;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port = TestSocketUtils.findAvailableTcpPort();
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        stringRedisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+        lock = new OrderMaintenanceLock(stringRedisTemplate);
+    }
+
+    @Test
+    void onlyOneHolderUntilReleased() {
+        OrderMaintenanceLock.Lease lease = lock.tryAcquire("maintenance:lock", Duration.ofMinutes(1));
+
+        assertThat(lease).isNotNull();
+        assertThat(lock.tryAcquire("maintenance:lock", Duration.ofMinutes(1))).isNull();
+
+        lease.close();
+        assertThat(lock.tryAcquire("maintenance:lock", Duration.ofMinutes(1))).isNotNull();
+    }
+
+    @Test
+    void expiredLeaseNeitherExtendsNorReleasesTheNextHolder() {
+        OrderMaintenanceLock.Lease expired = lock.tryAcquire("maintenance:lock", Duration.ofMinutes(1));
+        stringRedisTemplate.delete("maintenance:lock");
+        OrderMaintenanceLock.Lease current = lock.tryAcquire("maintenance:lock", Duration.ofMinutes(1));
+
+        assertThat(expired.extend()).isFalse();
+        expired.close();
+
+        assertThat(stringRedisTemplate.opsForValue().get("maintenance:lock")).isEqualTo(current.getToken());
+    }
+
+    @Test
+    void extendRefreshesTtl() {
+        OrderMaintenanceLock.Lease lease = lock.tryAcquire("maintenance:lock", Duration.ofMinutes(10));
+        stringRedisTemplate.expire("maintenance:lock", Duration.ofSeconds(5));
+
+        assertThat(lease.extend()).isTrue();
+        assertThat(stringRedisTemplate.getExpire("maintenance:lock", TimeUnit.SECONDS)).isGreaterThan(60);
+    }
+}
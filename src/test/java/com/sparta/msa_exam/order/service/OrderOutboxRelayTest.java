@@ -0,0 +1,150 @@
+package com.sparta.msa_exam.order.service;
+
+import com.sparta.msa_exam.order.OrderApplication;
+import com.sparta.msa_exam.order.config.OrderApplicationQueryDslConfig;
+import com.sparta.msa_exam.order.config.OutboxProperties;
+import com.sparta.msa_exam.order.entity.OrderOutbox;
+import com.sparta.msa_exam.order.enums.OrderEventType;
+import com.sparta.msa_exam.order.repository.OrderOutboxRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.TestSocketUtils;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest
+class OrderOutboxRelayTest {
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+
+    @Autowired
+    private OrderOutboxRepository orderOutboxRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private StringRedisTemplate stringRedisTemplate;
+    private OutboxProperties properties;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port = TestSocketUtils.findAvailableTcpPort();
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        stringRedisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+        properties = new OutboxProperties();
+        properties.setBatchSize(2);
+    }
+
+    @Test
+    void findUnpublishedLocksOldestUnpublishedRows() {
+        List<OrderOutbox> events = saveEvents(3);
+        events.get(0).markPublished(events.get(0).getCreatedAt());
+        flushAndClear();
+
+        List<OrderOutbox> batch = orderOutboxRepository.findUnpublished(PageRequest.of(0, 10));
+
+        assertThat(batch).extracting(OrderOutbox::getId)
+                .containsExactly(events.get(1).getId(), events.get(2).getId());
+    }
+
+    @Test
+    void relayPublishesBatchToStreamAndMarksItPublished() {
+        List<OrderOutbox> events = saveEvents(3);
+        flushAndClear();
+
+        new OrderOutboxRelay(orderOutboxRepository, stringRedisTemplate, properties).relay();
+        flushAndClear();
+
+        List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream()
+                .range(properties.getStreamKey(), Range.unbounded());
+        assertThat(records).extracting(record -> record.getValue().get("eventId"))
+                .containsExactly(String.valueOf(events.get(0).getId()), String.valueOf(events.get(1).getId()));
+        assertThat(records.get(0).getValue())
+                .containsEntry("type", OrderEventType.ORDER_CREATED.name())
+                .containsEntry("orderId", "1")
+                .containsEntry("version", "0");
+        assertThat(orderOutboxRepository.findAll()).filteredOn(event -> event.getPublishedAt() != null)
+                .extracting(OrderOutbox::getId)
+                .containsExactlyInAnyOrder(events.get(0).getId(), events.get(1).getId());
+    }
+
+    @Test
+    void failedStreamWriteLeavesRowsUnpublished() {
+        saveEvents(2);
+        flushAndClear();
+        StringRedisTemplate failingTemplate = mock(StringRedisTemplate.class);
+        when(failingTemplate.executePipelined(any(RedisCallback.class)))
+                .thenThrow(new RedisConnectionFailureException("redis down"));
+
+        OrderOutboxRelay relay = new OrderOutboxRelay(orderOutboxRepository, failingTemplate, properties);
+
+        assertThatThrownBy(relay::relay).isInstanceOf(RedisConnectionFailureException.class);
+        flushAndClear();
+        assertThat(orderOutboxRepository.findAll()).extracting(OrderOutbox::getPublishedAt).containsOnlyNulls();
+    }
+
+    private List<OrderOutbox> saveEvents(int count) {
+        return orderOutboxRepository.saveAll(IntStream.rangeClosed(1, count)
+                .mapToObj(i -> OrderOutbox.builder()
+                        .orderId((long) i)
+                        .aggregateVersion(0L)
+                        .eventType(OrderEventType.ORDER_CREATED)
+                        .payload("{\"orderId\":" + i + "}")
+                        .build())
+                .toList());
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @SpringBootConfiguration
+    @AutoConfigurationPackage(basePackageClasses = OrderApplication.class)
+    @Import(OrderApplicationQueryDslConfig.class)
+    static class TestConfig {
+    }
+}
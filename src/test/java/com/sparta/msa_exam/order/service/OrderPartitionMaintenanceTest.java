@@ -0,0 +1,58 @@
+package com.sparta.msa_exam.order.service;
+
+import com.sparta.msa_exam.order.config.OrderArchiveProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrderPartitionMaintenanceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private OrderMaintenanceLock orderMaintenanceLock;
+    private OrderArchiveProperties properties;
+    private OrderPartitionMaintenance maintenance;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        orderMaintenanceLock = mock(OrderMaintenanceLock.class);
+        properties = new OrderArchiveProperties();
+        maintenance = new OrderPartitionMaintenance(jdbcTemplate, orderMaintenanceLock, properties);
+    }
+
+    @Test
+    void splitsMissingMonthsOffPmax() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of("p202609", "p202610", "pmax"));
+
+        maintenance.addUpcomingPartitions(YearMonth.of(2026, 12));
+
+        InOrder order = inOrder(jdbcTemplate);
+        order.verify(jdbcTemplate).execute("alter table orders reorganize partition pmax into ("
+                + "partition p202611 values less than ('2026-12-01'), partition pmax values less than (maxvalue))");
+        order.verify(jdbcTemplate).execute("alter table orders reorganize partition pmax into ("
+                + "partition p202612 values less than ('2027-01-01'), partition pmax values less than (maxvalue))");
+    }
+
+    @Test
+    void skipsWhenAnotherInstanceHoldsTheLock() {
+        when(orderMaintenanceLock.tryAcquire(properties.getLockKey(), properties.getLockTtl())).thenReturn(null);
+
+        maintenance.addUpcomingPartitions();
+
+        verify(jdbcTemplate, never()).queryForList(anyString(), any(Class.class));
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+}
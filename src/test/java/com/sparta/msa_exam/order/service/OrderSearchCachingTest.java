@@ -0,0 +1,136 @@
+package com.sparta.msa_exam.order.service;
+
+import com.sparta.msa_exam.order.cache.CachedOrderPage;
+import com.sparta.msa_exam.order.cache.CompactRedisSerializer;
+import com.sparta.msa_exam.order.cache.OrderSearchCache;
+import com.sparta.msa_exam.order.cache.OrderSearchCacheEvictor;
+import com.sparta.msa_exam.order.cache.OrderSearchCacheIndex;
+import com.sparta.msa_exam.order.config.CacheCodecProperties;
+import com.sparta.msa_exam.order.config.CacheConfig;
+import com.sparta.msa_exam.order.dto.OrderResponseDto;
+import com.sparta.msa_exam.order.dto.OrderSearchDto;
+import com.sparta.msa_exam.order.enums.OrderStatus;
+import com.sparta.msa_exam.order.metrics.OrderMetrics;
+import com.sparta.msa_exam.order.repository.OrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringJUnitConfig
+class OrderSearchCachingTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache("orderSearchCache").clear();
+        reset(orderRepository);
+        when(orderRepository.searchOrders(any(), any(), any(), any())).thenAnswer(invocation -> {
+            Pageable pageable = invocation.getArgument(1);
+            LocalDateTime now = LocalDateTime.of(2024, 5, 1, 12, 30, 15);
+            List<OrderResponseDto> content = List.of(
+                    new OrderResponseDto(1L, "CREATED", now, "user", null, null, List.of(10L, 11L)),
+                    new OrderResponseDto(2L, "CREATED", now, "user", now, "user", List.of(12L))
+            );
+            return new PageImpl<>(content, pageable, 42);
+        });
+    }
+
+    @Test
+    void secondIdenticalSearchIsServedFromCache() {
+        OrderSearchDto searchDto = new OrderSearchDto(OrderStatus.CREATED, List.of(10L));
+        Pageable pageable = PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        Page<OrderResponseDto> first = orderService.getOrders(searchDto, pageable, "MANAGER", "user");
+        Page<OrderResponseDto> second = orderService.getOrders(searchDto, pageable, "MANAGER", "user");
+
+        verify(orderRepository, times(1)).searchOrders(any(), any(), any(), any());
+        assertThat(second.getTotalElements()).isEqualTo(42);
+        assertThat(second.getPageable()).isEqualTo(pageable);
+        assertThat(second.getContent()).usingRecursiveFieldByFieldElementComparator().isEqualTo(first.getContent());
+    }
+
+    @Test
+    void differentSortIsCachedSeparately() {
+        OrderSearchDto searchDto = new OrderSearchDto();
+
+        orderService.getOrders(searchDto, PageRequest.of(0, 2, Sort.by("createdAt")), "MANAGER", "user");
+        orderService.getOrders(searchDto, PageRequest.of(0, 2, Sort.by("status")), "MANAGER", "user");
+
+        verify(orderRepository, times(2)).searchOrders(eq(searchDto), any(), any(), any());
+    }
+
+    @Configuration
+    @EnableCaching
+    static class TestConfig {
+        @Bean
+        OrderRepository orderRepository() {
+            return mock(OrderRepository.class);
+        }
+
+        @Bean
+        OrderService orderService(OrderRepository orderRepository) {
+            return new OrderService(orderRepository, mock(ProductReservationService.class), mock(OrderSearchCacheEvictor.class), mock(OrderEventOutbox.class),
+                    new OrderMetrics(new SimpleMeterRegistry()));
+        }
+
+        @Bean
+        KeyGenerator customCacheKeyGenerator() {
+            return new CacheConfig().customCacheKeyGenerator();
+        }
+
+        @Bean
+        CacheManager cacheManager() {
+            CompactRedisSerializer<CachedOrderPage> serializer = new CompactRedisSerializer<>(CachedOrderPage.class, new CacheCodecProperties());
+            ConcurrentMapCache store = new ConcurrentMapCache("orderSearchCache", new ConcurrentHashMap<>(), false) {
+                @Override
+                protected Object toStoreValue(Object userValue) {
+                    return serializer.serialize((CachedOrderPage) userValue);
+                }
+
+                @Override
+                protected Object fromStoreValue(Object storeValue) {
+                    return serializer.deserialize((byte[]) storeValue);
+                }
+            };
+
+            SimpleCacheManager cacheManager = new SimpleCacheManager();
+            cacheManager.setCaches(List.of(new OrderSearchCache(store, mock(OrderSearchCacheIndex.class))));
+            return cacheManager;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.sparta.msa_exam.order.service;
+
+import com.sparta.msa_exam.order.cache.OrderSearchCacheEvictor;
+import com.sparta.msa_exam.order.dto.OrderResponseDto;
+import com.sparta.msa_exam.order.dto.OrderSearchDto;
+import com.sparta.msa_exam.order.metrics.OrderMetrics;
+import com.sparta.msa_exam.order.repository.OrderRepository;
+import com.sparta.msa_exam.order.routing.ReplicationRoutingDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OrderServiceRoutingTest {
+
+    private final OrderSearchDto searchDto = new OrderSearchDto();
+    private final Pageable pageable = PageRequest.of(0, 20);
+
+    private OrderSearchCacheEvictor orderSearchCacheEvictor;
+    private OrderService orderService;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = new LazyConnectionDataSourceProxy(
+                new ReplicationRoutingDataSource(database("primary"), Map.of("replica", database("replica"))));
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        readOnlyTransaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        readOnlyTransaction.setReadOnly(true);
+
+        OrderRepository orderRepository = mock(OrderRepository.class);
+        when(orderRepository.searchOrders(any(), any(), any(), any())).thenAnswer(invocation -> {
+            String node = jdbcTemplate.queryForObject("select name from node", String.class);
+            return new PageImpl<>(List.of(new OrderResponseDto(node, List.of())), pageable, 1);
+        });
+        orderSearchCacheEvictor = mock(OrderSearchCacheEvictor.class);
+        orderService = new OrderService(orderRepository, mock(ProductReservationService.class), orderSearchCacheEvictor,
+                mock(OrderEventOutbox.class), new OrderMetrics(new SimpleMeterRegistry()));
+    }
+
+    @Test
+    void searchRunsOnReplica() {
+        assertThat(searchedNode()).isEqualTo("replica");
+    }
+
+    @Test
+    void searchAfterRecentWriteRunsOnPrimary() {
+        when(orderSearchCacheEvictor.isRecentlyWritten(searchDto, pageable)).thenReturn(true);
+
+        assertThat(searchedNode()).isEqualTo("primary");
+    }
+
+    private String searchedNode() {
+        Page<OrderResponseDto> page = readOnlyTransaction.execute(status -> orderService.getOrders(searchDto, pageable, "MANAGER", "user"));
+        return page.getContent().get(0).getStatus();
+    }
+
+    private DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("create table if not exists node (name varchar(20))");
+        template.update("delete from node");
+        template.update("insert into node values (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,219 @@
+package com.sparta.msa_exam.order.service;
+
+import com.sparta.msa_exam.order.cache.OrderSearchCacheEvictor;
+import com.sparta.msa_exam.order.client.ProductClient;
+import com.sparta.msa_exam.order.client.ProductSnapshotCache;
+import com.sparta.msa_exam.order.client.dto.ProductQuantityRequestDto;
+import com.sparta.msa_exam.order.client.dto.ProductResponseDto;
+import com.sparta.msa_exam.order.config.JacksonConfig;
+import com.sparta.msa_exam.order.config.ProductCallProperties;
+import com.sparta.msa_exam.order.config.ProductSnapshotProperties;
+import com.sparta.msa_exam.order.dto.OrderRequestDto;
+import com.sparta.msa_exam.order.dto.OrderResponseDto;
+import com.sparta.msa_exam.order.entity.Order;
+import com.sparta.msa_exam.order.enums.ProductCallMode;
+import com.sparta.msa_exam.order.exception.ProductServiceUnavailableException;
+import com.sparta.msa_exam.order.metrics.OrderMetrics;
+import com.sparta.msa_exam.order.repository.OrderOutboxRepository;
+import com.sparta.msa_exam.order.repository.OrderRepository;
+import com.sparta.msa_exam.order.stock.StockLedger;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrderServiceTest {
+
+    private StubProductClient productClient;
+    private OrderRepository orderRepository;
+    private ProductCallProperties properties;
+    private ExecutorService executor;
+    private OrderService orderService;
+
+    @BeforeEach
+    void setUp() {
+        productClient = new StubProductClient();
+        orderRepository = mock(OrderRepository.class);
+        when(orderRepository.saveAndFlush(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        properties = new ProductCallProperties();
+        executor = Executors.newFixedThreadPool(properties.getMaxConcurrency());
+        OrderMetrics orderMetrics = new OrderMetrics(new SimpleMeterRegistry());
+        ProductSnapshotProperties snapshotProperties = new ProductSnapshotProperties();
+        snapshotProperties.setEnabled(false);
+        ProductSnapshotCache productSnapshotCache = new ProductSnapshotCache(productClient, snapshotProperties, new SimpleMeterRegistry(), executor);
+        ProductReservationService reservationService = new ProductReservationService(productClient, productSnapshotCache, properties, executor, orderMetrics, mock(StockLedger.class));
+        OrderEventOutbox orderEventOutbox = new OrderEventOutbox(orderRepository, mock(OrderOutboxRepository.class), new JacksonConfig().objectMapper(), mock(EntityManager.class));
+        orderService = new OrderService(orderRepository, reservationService, mock(OrderSearchCacheEvictor.class), orderEventOutbox, orderMetrics);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 20, 200})
+    void createOrderMakesConstantNumberOfProductCalls(int itemCount) {
+        List<Long> productIds = LongStream.rangeClosed(1, itemCount).boxed().collect(Collectors.toList());
+        productIds.forEach(id -> productClient.stock.put(id, 10));
+
+        OrderResponseDto response = orderService.createOrder(new OrderRequestDto(new ArrayList<>(productIds), null), "user");
+
+        assertThat(response.getOrderItemIds()).hasSize(itemCount);
+        assertThat(productClient.calls.get()).isEqualTo(2);
+        assertThat(productClient.stock.values()).containsOnly(9);
+    }
+
+    @Test
+    void createOrderAggregatesDuplicateItems() {
+        productClient.stock.put(1L, 2);
+
+        orderService.createOrder(new OrderRequestDto(new ArrayList<>(List.of(1L, 1L)), null), "user");
+
+        assertThat(productClient.stock.get(1L)).isZero();
+    }
+
+    @Test
+    void createOrderRejectsOutOfStockWithoutReserving() {
+        productClient.stock.put(1L, 5);
+        productClient.stock.put(2L, 0);
+
+        assertThatThrownBy(() -> orderService.createOrder(new OrderRequestDto(new ArrayList<>(List.of(1L, 2L)), null), "user"))
+                .isInstanceOf(ResponseStatusException.class);
+
+        assertThat(productClient.calls.get()).isEqualTo(1);
+        assertThat(productClient.stock.get(1L)).isEqualTo(5);
+        verify(orderRepository, never()).saveAndFlush(any(Order.class));
+    }
+
+    @Test
+    void parallelModeFansOutProductCalls() {
+        properties.setMode(ProductCallMode.PARALLEL);
+        List<Long> productIds = LongStream.rangeClosed(1, 8).boxed().collect(Collectors.toList());
+        productIds.forEach(id -> productClient.stock.put(id, 1));
+        productClient.barrier = new CountDownLatch(productIds.size());
+
+        orderService.createOrder(new OrderRequestDto(new ArrayList<>(productIds), null), "user");
+
+        assertThat(productClient.stock.values()).containsOnly(0);
+    }
+
+    @Test
+    void parallelModeCompensatesReservedItemsOnFailure() {
+        properties.setMode(ProductCallMode.PARALLEL);
+        productClient.stock.put(1L, 3);
+        productClient.stock.put(2L, 3);
+        productClient.stock.put(3L, 3);
+        productClient.failingReductions.add(2L);
+
+        assertThatThrownBy(() -> orderService.createOrder(new OrderRequestDto(new ArrayList<>(List.of(1L, 2L, 3L)), null), "user"))
+                .isInstanceOf(ProductServiceUnavailableException.class);
+
+        assertThat(productClient.stock).containsEntry(1L, 3).containsEntry(2L, 3).containsEntry(3L, 3);
+        verify(orderRepository, never()).saveAndFlush(any(Order.class));
+    }
+
+    @Test
+    void sequentialModeReportsEveryOutOfStockItem() {
+        properties.setMode(ProductCallMode.SEQUENTIAL);
+        productClient.stock.put(1L, 0);
+        productClient.stock.put(2L, 1);
+        productClient.stock.put(3L, 0);
+
+        assertThatThrownBy(() -> orderService.createOrder(new OrderRequestDto(new ArrayList<>(List.of(1L, 2L, 3L)), null), "user"))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("[1, 3]");
+
+        assertThat(productClient.stock.get(2L)).isEqualTo(1);
+    }
+
+    static class StubProductClient implements ProductClient {
+        final Map<Long, Integer> stock = new ConcurrentHashMap<>();
+        final Set<Long> failingReductions = ConcurrentHashMap.newKeySet();
+        final AtomicInteger calls = new AtomicInteger();
+        volatile CountDownLatch barrier;
+
+        @Override
+        public ProductResponseDto getProduct(Long id) {
+            calls.incrementAndGet();
+            awaitBarrier();
+            return toProduct(id);
+        }
+
+        @Override
+        public void reduceProductQuantity(Long id, int quantity) {
+            calls.incrementAndGet();
+            if (failingReductions.contains(id)) {
+                throw new IllegalStateException("product-service unavailable");
+            }
+            stock.computeIfPresent(id, (key, value) -> value - quantity);
+        }
+
+        @Override
+        public void increaseProductQuantity(Long id, int quantity) {
+            calls.incrementAndGet();
+            stock.computeIfPresent(id, (key, value) -> value + quantity);
+        }
+
+        @Override
+        public List<ProductResponseDto> getProducts(Collection<Long> ids) {
+            calls.incrementAndGet();
+            return ids.stream()
+                    .filter(stock::containsKey)
+                    .map(this::toProduct)
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public void reduceProductQuantities(List<ProductQuantityRequestDto> requests) {
+            calls.incrementAndGet();
+            requests.forEach(request -> stock.computeIfPresent(request.getProductId(), (key, value) -> value - request.getQuantity()));
+        }
+
+        private void awaitBarrier() {
+            CountDownLatch latch = barrier;
+            if (latch == null) {
+                return;
+            }
+            latch.countDown();
+            try {
+                if (!latch.await(5, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("product calls were not issued concurrently");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private ProductResponseDto toProduct(Long id) {
+            return new ProductResponseDto(id, "product-" + id, null, 1000, stock.get(id), null, null, null, null);
+        }
+    }
+}
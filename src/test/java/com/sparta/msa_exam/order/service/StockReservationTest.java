@@ -0,0 +1,121 @@
+package com.sparta.msa_exam.order.service;
+
+import com.sparta.msa_exam.order.client.ProductClient;
+import com.sparta.msa_exam.order.client.ProductSnapshotCache;
+import com.sparta.msa_exam.order.config.ProductCallProperties;
+import com.sparta.msa_exam.order.config.StockLedgerProperties;
+import com.sparta.msa_exam.order.enums.ProductCallMode;
+import com.sparta.msa_exam.order.exception.ProductServiceUnavailableException;
+import com.sparta.msa_exam.order.metrics.OrderMetrics;
+import com.sparta.msa_exam.order.stock.StockLedger;
+import com.sparta.msa_exam.order.stock.StockLedgerSync;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.TestSocketUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class StockReservationTest {
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+
+    private StockLedger stockLedger;
+    private StockLedgerSync stockLedgerSync;
+    private ProductReservationService reservationService;
+    private TransactionTemplate transaction;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port = TestSocketUtils.findAvailableTcpPort();
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        StringRedisTemplate stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        stringRedisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+        StockLedgerProperties ledgerProperties = new StockLedgerProperties();
+        ledgerProperties.setReservationTtl(Duration.ZERO);
+        stockLedger = new StockLedger(stringRedisTemplate, ledgerProperties);
+        stockLedger.seed(Map.of(1L, 5));
+        stockLedgerSync = new StockLedgerSync(stockLedger, mock(ProductClient.class), ledgerProperties, new SimpleMeterRegistry());
+
+        ProductCallProperties callProperties = new ProductCallProperties();
+        callProperties.setMode(ProductCallMode.LEDGER);
+        reservationService = new ProductReservationService(mock(ProductClient.class), mock(ProductSnapshotCache.class), callProperties,
+                Runnable::run, new OrderMetrics(new SimpleMeterRegistry()), stockLedger);
+
+        transaction = new TransactionTemplate(new DataSourceTransactionManager(
+                new DriverManagerDataSource("jdbc:h2:mem:stock-reservation;DB_CLOSE_DELAY=-1", "sa", "")));
+    }
+
+    @Test
+    void reservationSweptBeforeCommitRollsBackTheOrder() {
+        StockReservation reservation = reservationService.reserve("order-1", List.of(1L, 1L));
+        stockLedgerSync.releaseExpired();
+
+        assertThatThrownBy(() -> transaction.executeWithoutResult(status -> reservation.settleWithTransaction()))
+                .isInstanceOf(ProductServiceUnavailableException.class);
+
+        assertThat(stockLedger.drainPending().isEmpty()).isTrue();
+        assertThat(stockLedger.reserve("order-2", Map.of(1L, 5)).getStatus()).isEqualTo(StockLedger.Status.RESERVED);
+    }
+
+    @Test
+    void heldReservationIsNotSweptBeforeItIsConfirmed() {
+        StockReservation reservation = reservationService.reserve("order-1", List.of(1L, 1L));
+
+        transaction.executeWithoutResult(status -> {
+            reservation.settleWithTransaction();
+            reservation.hold();
+            stockLedgerSync.releaseExpired();
+        });
+
+        assertThat(stockLedger.drainPending().getQuantities()).containsExactly(Map.entry(1L, 2));
+        assertThat(stockLedger.reserve("order-2", Map.of(1L, 4)).getStatus()).isEqualTo(StockLedger.Status.INSUFFICIENT);
+    }
+
+    @Test
+    void rolledBackTransactionReleasesTheReservation() {
+        StockReservation reservation = reservationService.reserve("order-1", List.of(1L, 1L));
+
+        transaction.executeWithoutResult(status -> {
+            reservation.settleWithTransaction();
+            status.setRollbackOnly();
+        });
+
+        assertThat(stockLedger.drainPending().isEmpty()).isTrue();
+        assertThat(stockLedger.reserve("order-2", Map.of(1L, 5)).getStatus()).isEqualTo(StockLedger.Status.RESERVED);
+    }
+}
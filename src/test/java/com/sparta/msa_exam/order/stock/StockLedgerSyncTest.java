@@ -0,0 +1,135 @@
+package com.sparta.msa_exam.order.stock;
+
+import com.sparta.msa_exam.order.client.ProductClient;
+import com.sparta.msa_exam.order.client.dto.ProductQuantityRequestDto;
+import com.sparta.msa_exam.order.config.StockLedgerProperties;
+import com.sparta.msa_exam.order.exception.ProductServiceUnavailableException;
+import feign.FeignException;
+import feign.Request;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.TestSocketUtils;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class StockLedgerSyncTest {
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+
+    private StockLedger stockLedger;
+    private ProductClient productClient;
+    private SimpleMeterRegistry meterRegistry;
+    private StockLedgerSync stockLedgerSync;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port = TestSocketUtils.findAvailableTcpPort();
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        StringRedisTemplate stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        stringRedisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+        StockLedgerProperties properties = new StockLedgerProperties();
+        stockLedger = new StockLedger(stringRedisTemplate, properties);
+        productClient = mock(ProductClient.class);
+        meterRegistry = new SimpleMeterRegistry();
+        stockLedgerSync = new StockLedgerSync(stockLedger, productClient, properties, meterRegistry);
+
+        stockLedger.seed(Map.of(1L, 10));
+        stockLedger.reserve("r1", Map.of(1L, 2));
+        stockLedger.confirm("r1");
+    }
+
+    @Test
+    void syncedBatchIsAcknowledged() {
+        stockLedgerSync.syncConfirmed();
+        stockLedgerSync.syncConfirmed();
+
+        verify(productClient, times(1)).reduceProductQuantities(reductionOf(1L, 2));
+        assertThat(meterRegistry.counter("order.stock.ledger.synced").count()).isEqualTo(1);
+    }
+
+    @Test
+    void transientFailureRetriesSameBatch() {
+        doThrow(new ProductServiceUnavailableException("잠시 후에 주문 추가를 요청 해주세요."))
+                .doNothing()
+                .when(productClient).reduceProductQuantities(anyList());
+
+        stockLedgerSync.syncConfirmed();
+        stockLedgerSync.syncConfirmed();
+        stockLedgerSync.syncConfirmed();
+
+        verify(productClient, times(2)).reduceProductQuantities(reductionOf(1L, 2));
+        assertThat(meterRegistry.counter("order.stock.ledger.synced").count()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectedBatchIsParkedInsteadOfRetried() {
+        doThrow(new FeignException.BadRequest("insufficient stock", request(), null, null))
+                .when(productClient).reduceProductQuantities(anyList());
+
+        stockLedgerSync.syncConfirmed();
+        stockLedgerSync.syncConfirmed();
+
+        verify(productClient, times(1)).reduceProductQuantities(anyList());
+        assertThat(stockLedger.parked()).containsExactly(Map.entry(1L, 2));
+        assertThat(meterRegistry.counter("order.stock.ledger.parked").count()).isEqualTo(1);
+    }
+
+    @Test
+    void throttledBatchIsRetried() {
+        doThrow(new FeignException.TooManyRequests("slow down", request(), null, null))
+                .doNothing()
+                .when(productClient).reduceProductQuantities(anyList());
+
+        stockLedgerSync.syncConfirmed();
+        stockLedgerSync.syncConfirmed();
+
+        verify(productClient, times(2)).reduceProductQuantities(anyList());
+        assertThat(stockLedger.parked()).isEmpty();
+    }
+
+    private List<ProductQuantityRequestDto> reductionOf(Long productId, int quantity) {
+        return argThat(requests -> requests.size() == 1
+                && requests.get(0).getProductId().equals(productId)
+                && requests.get(0).getQuantity() == quantity);
+    }
+
+    private Request request() {
+        return Request.create(Request.HttpMethod.POST, "/products/reduceQuantity", Map.of(), null, StandardCharsets.UTF_8, null);
+    }
+}
@@ -0,0 +1,266 @@
+package com.sparta.msa_exam.order.stock;
+
+import com.sparta.msa_exam.order.config.StockLedgerProperties;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.TestSocketUtils;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StockLedgerTest {
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+
+    private StringRedisTemplate stringRedisTemplate;
+    private StockLedgerProperties properties;
+    private StockLedger stockLedger;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port = TestSocketUtils.findAvailableTcpPort();
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        stringRedisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+        properties = new StockLedgerProperties();
+        stockLedger = new StockLedger(stringRedisTemplate, properties);
+    }
+
+    @Test
+    void concurrentReservationsNeverOversell() throws Exception {
+        stockLedger.seed(Map.of(1L, 50, 2L, 1000));
+        int threads = 32;
+        int attemptsPerThread = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger reserved = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int attempt = 0; attempt < attemptsPerThread; attempt++) {
+                    StockLedger.Result result = stockLedger.reserve(UUID.randomUUID().toString(), Map.of(1L, 1, 2L, 2));
+                    if (result.getStatus() == StockLedger.Status.RESERVED) {
+                        reserved.incrementAndGet();
+                    } else {
+                        assertThat(result.getStatus()).isEqualTo(StockLedger.Status.INSUFFICIENT);
+                        assertThat(result.getProductIds()).containsExactly(1L);
+                        rejected.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(reserved.get()).isEqualTo(50);
+        assertThat(rejected.get()).isEqualTo(threads * attemptsPerThread - 50);
+        assertThat(stockLedger.available(1L)).isZero();
+        assertThat(stockLedger.available(2L)).isEqualTo(900);
+    }
+
+    @Test
+    void reportsMissingStockUntilSeeded() {
+        StockLedger.Result missing = stockLedger.reserve("r1", Map.of(7L, 1));
+
+        assertThat(missing.getStatus()).isEqualTo(StockLedger.Status.MISSING);
+        assertThat(missing.getProductIds()).containsExactly(7L);
+
+        stockLedger.seed(Map.of(7L, 3));
+        assertThat(stockLedger.reserve("r1", Map.of(7L, 1)).getStatus()).isEqualTo(StockLedger.Status.RESERVED);
+        assertThat(stockLedger.available(7L)).isEqualTo(2);
+    }
+
+    @Test
+    void repeatedReservationWithSameIdReservesOnce() {
+        stockLedger.seed(Map.of(1L, 5));
+
+        assertThat(stockLedger.reserve("order-1", Map.of(1L, 2)).getStatus()).isEqualTo(StockLedger.Status.RESERVED);
+        assertThat(stockLedger.reserve("order-1", Map.of(1L, 2)).getStatus()).isEqualTo(StockLedger.Status.RESERVED);
+        assertThat(stockLedger.available(1L)).isEqualTo(3);
+    }
+
+    @Test
+    void recordedReservationIsFoundUntilForgotten() {
+        stockLedger.record("order-1", Map.of(1L, 2, 3L, 1));
+
+        assertThat(stockLedger.findRecorded("order-1")).containsOnly(Map.entry(1L, 2), Map.entry(3L, 1));
+        assertThat(stringRedisTemplate.getExpire("{order-stock}:record:order-1")).isPositive();
+
+        stockLedger.forget("order-1");
+        assertThat(stockLedger.findRecorded("order-1")).isEmpty();
+    }
+
+    @Test
+    void releaseRestoresStockOnlyOnce() {
+        stockLedger.seed(Map.of(1L, 5));
+        stockLedger.reserve("r1", Map.of(1L, 3));
+
+        assertThat(stockLedger.release("r1")).isTrue();
+        assertThat(stockLedger.release("r1")).isFalse();
+        assertThat(stockLedger.available(1L)).isEqualTo(5);
+    }
+
+    @Test
+    void confirmQueuesReductionForSyncAndReseedSubtractsIt() {
+        stockLedger.seed(Map.of(1L, 5));
+        stockLedger.reserve("r1", Map.of(1L, 2));
+
+        assertThat(stockLedger.confirm("r1")).isTrue();
+        assertThat(stockLedger.confirm("r1")).isFalse();
+        assertThat(stockLedger.release("r1")).isFalse();
+        assertThat(stockLedger.available(1L)).isEqualTo(3);
+
+        stringRedisTemplate.delete(StockLedger.AVAILABLE_PREFIX + 1L);
+        stockLedger.seed(Map.of(1L, 5));
+        assertThat(stockLedger.available(1L)).isEqualTo(3);
+
+        StockLedger.SyncBatch batch = stockLedger.drainPending();
+        assertThat(batch.getQuantities()).containsExactly(Map.entry(1L, 2));
+        assertThat(stockLedger.ack(batch)).isTrue();
+        assertThat(stockLedger.drainPending().isEmpty()).isTrue();
+    }
+
+    @Test
+    void drainedBatchIsHeldUntilAcknowledged() {
+        confirm("r1", 1L, 2);
+        StockLedger.SyncBatch batch = stockLedger.drainPending();
+        confirm("r2", 1L, 1);
+
+        assertThat(stockLedger.drainPending().isEmpty()).isTrue();
+        assertThat(stockLedger.retry(batch)).isTrue();
+
+        StockLedger.SyncBatch retried = stockLedger.drainPending();
+        assertThat(retried.getQuantities()).containsExactly(Map.entry(1L, 2));
+        assertThat(stockLedger.ack(retried)).isTrue();
+        assertThat(stockLedger.ack(retried)).isFalse();
+
+        assertThat(stockLedger.drainPending().getQuantities()).containsExactly(Map.entry(1L, 1));
+    }
+
+    @Test
+    void expiredLeaseHandsBatchToNextDrainer() {
+        properties.setSyncLeaseTtl(Duration.ofMillis(1));
+        confirm("r1", 1L, 2);
+        StockLedger.SyncBatch abandoned = stockLedger.drainPending();
+
+        await(Duration.ofMillis(20));
+        StockLedger.SyncBatch resumed = stockLedger.drainPending();
+
+        assertThat(resumed.getQuantities()).containsExactly(Map.entry(1L, 2));
+        assertThat(stockLedger.ack(abandoned)).isFalse();
+    }
+
+    @Test
+    void parkedBatchLeavesSyncAndIsSubtractedWhenReseeding() {
+        confirm("r1", 1L, 2);
+        StockLedger.SyncBatch batch = stockLedger.drainPending();
+        confirm("r2", 1L, 1);
+
+        stringRedisTemplate.delete(StockLedger.AVAILABLE_PREFIX + 1L);
+        stockLedger.seed(Map.of(1L, 5));
+        assertThat(stockLedger.available(1L)).isEqualTo(2);
+
+        assertThat(stockLedger.park(batch)).isTrue();
+        assertThat(stockLedger.parked()).containsExactly(Map.entry(1L, 2));
+        assertThat(stockLedger.drainPending().getQuantities()).containsExactly(Map.entry(1L, 1));
+
+        stringRedisTemplate.delete(StockLedger.AVAILABLE_PREFIX + 1L);
+        stockLedger.seed(Map.of(1L, 5));
+        assertThat(stockLedger.available(1L)).isEqualTo(2);
+    }
+
+    @Test
+    void expiredReservationsAreFoundAndReleased() {
+        properties.setReservationTtl(Duration.ZERO);
+        stockLedger.seed(Map.of(1L, 5));
+        stockLedger.reserve("r1", Map.of(1L, 4));
+
+        assertThat(stockLedger.findExpired(System.currentTimeMillis() + 1, 10)).containsExactly("r1");
+        stockLedger.release("r1");
+
+        assertThat(stockLedger.findExpired(System.currentTimeMillis() + 1, 10)).isEmpty();
+        assertThat(stockLedger.available(1L)).isEqualTo(5);
+    }
+
+    @Test
+    void heldReservationIsSkippedByExpirySweep() {
+        properties.setReservationTtl(Duration.ZERO);
+        stockLedger.seed(Map.of(1L, 5));
+        stockLedger.reserve("r1", Map.of(1L, 4));
+
+        assertThat(stockLedger.hold("r1")).isTrue();
+        assertThat(stockLedger.findExpired(System.currentTimeMillis() + 1, 10)).isEmpty();
+        assertThat(stockLedger.releaseExpired("r1", System.currentTimeMillis() + 1)).isFalse();
+        assertThat(stockLedger.confirm("r1")).isTrue();
+        assertThat(stockLedger.available(1L)).isEqualTo(1);
+    }
+
+    @Test
+    void sweptReservationCannotBeHeldOrConfirmed() {
+        properties.setReservationTtl(Duration.ZERO);
+        stockLedger.seed(Map.of(1L, 5));
+        stockLedger.reserve("r1", Map.of(1L, 4));
+
+        assertThat(stockLedger.releaseExpired("r1", System.currentTimeMillis() + 1)).isTrue();
+        assertThat(stockLedger.hold("r1")).isFalse();
+        assertThat(stockLedger.confirm("r1")).isFalse();
+        assertThat(stockLedger.available(1L)).isEqualTo(5);
+    }
+
+    private void confirm(String reservationId, Long productId, int quantity) {
+        stockLedger.seed(Map.of(productId, 100));
+        stockLedger.reserve(reservationId, Map.of(productId, quantity));
+        stockLedger.confirm(reservationId);
+    }
+
+    private void await(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.sparta.msa_exam.order.tracing;
+
+import com.sparta.msa_exam.order.config.TraceSamplingProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EndpointAwareSamplerTest {
+
+    @AfterEach
+    void tearDown() {
+        EndpointAwareSampler.clearCurrentPath();
+    }
+
+    @Test
+    void endpointRulesOverrideDefaultProbability() {
+        EndpointAwareSampler sampler = new EndpointAwareSampler(properties(0.0f,
+                rule("/orders/bulk", 1.0f), rule("/actuator/**", 0.0f)));
+
+        EndpointAwareSampler.setCurrentPath("/orders/bulk");
+        assertThat(sampled(sampler, 100)).isEqualTo(100);
+
+        EndpointAwareSampler.setCurrentPath("/actuator/prometheus");
+        assertThat(sampled(sampler, 100)).isZero();
+
+        EndpointAwareSampler.setCurrentPath("/orders/1");
+        assertThat(sampled(sampler, 100)).isZero();
+    }
+
+    @Test
+    void errorOnEndpointBoostsSamplingForThatEndpointOnly() {
+        EndpointAwareSampler sampler = new EndpointAwareSampler(properties(0.0f, rule("/orders/bulk", 0.0f)));
+
+        sampler.boost("/orders/bulk");
+
+        EndpointAwareSampler.setCurrentPath("/orders/bulk");
+        assertThat(sampled(sampler, 10)).isEqualTo(10);
+
+        EndpointAwareSampler.setCurrentPath("/orders/1");
+        assertThat(sampled(sampler, 10)).isZero();
+    }
+
+    @Test
+    void boostIsRateLimited() {
+        TraceSamplingProperties properties = properties(0.0f);
+        properties.getBoost().setTracesPerSecond(5);
+        EndpointAwareSampler sampler = new EndpointAwareSampler(properties);
+
+        sampler.boost("/orders");
+        EndpointAwareSampler.setCurrentPath("/orders");
+
+        assertThat(sampled(sampler, 1000)).isLessThanOrEqualTo(10);
+    }
+
+    private long sampled(EndpointAwareSampler sampler, int traces) {
+        return LongStream.rangeClosed(1, traces).filter(sampler::isSampled).count();
+    }
+
+    private TraceSamplingProperties properties(float probability, TraceSamplingProperties.Rule... rules) {
+        TraceSamplingProperties properties = new TraceSamplingProperties();
+        properties.setProbability(probability);
+        properties.setRules(List.of(rules));
+        return properties;
+    }
+
+    private TraceSamplingProperties.Rule rule(String pattern, float probability) {
+        TraceSamplingProperties.Rule rule = new TraceSamplingProperties.Rule();
+        rule.setPattern(pattern);
+        rule.setProbability(probability);
+        return rule;
+    }
+}